@@ -0,0 +1,165 @@
+package com.a505.hobbyit.jwt;
+
+import com.a505.hobbyit.member.domain.Member;
+import com.a505.hobbyit.member.dto.response.MemberResponse;
+import com.a505.hobbyit.member.enums.MemberState;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+인증 경로 벤치마크 (./gradlew jmh)
+- Redis 는 값이 없는 것처럼 응답하는 stub 으로 대체하고, 토큰 epoch 는 메모리에 채워서 실제 조회 경로를 그대로 탄다.
+- 필터는 캐시 적중(doFilter)과 캐시 미스(doFilterMiss) 경로를 각각 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AuthenticationBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private JwtAuthenticationFilter missFilter;
+    private Member member;
+    private Authentication authentication;
+    private String accessToken;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() throws Exception {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+
+        // Redis 는 값이 없는 것처럼 동작하는 stub 으로 대체하고, 토큰 epoch 는 pub/sub 메시지로 메모리에 채운다.
+        ValueOperations<String, String> emptyValues = stub(ValueOperations.class);
+        HashOperations<String, Object, Object> emptyHashes = stub(HashOperations.class);
+        ZSetOperations<String, String> emptyZSets = stub(ZSetOperations.class);
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate() {
+            @Override
+            public ValueOperations<String, String> opsForValue() {
+                return emptyValues;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <HK, HV> HashOperations<String, HK, HV> opsForHash() {
+                return (HashOperations<String, HK, HV>) emptyHashes;
+            }
+
+            @Override
+            public ZSetOperations<String, String> opsForZSet() {
+                return emptyZSets;
+            }
+        };
+        TokenEpochStore tokenEpochStore = new TokenEpochStore(stringRedisTemplate, new RedisMessageListenerContainer());
+        tokenEpochStore.onMessage(epochMessage("1:1"), null);
+        tokenEpochStore.onMessage(epochMessage("1:" + System.currentTimeMillis() + ":" + RefreshTokenStore.DEFAULT_DEVICE_ID), null);
+
+        jwtTokenProvider = new JwtTokenProvider(Base64.getEncoder().encodeToString(secret), tokenEpochStore);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, new TokenAuthenticationCache(10_000), tokenEpochStore);
+        // 항상 캐시 미스가 나도록 조회만 비운 캐시, 저장 비용은 그대로 측정된다.
+        missFilter = new JwtAuthenticationFilter(jwtTokenProvider, new TokenAuthenticationCache(10_000) {
+            @Override
+            public ParsedToken get(String token) {
+                return null;
+            }
+        }, tokenEpochStore);
+
+        member = Member.builder()
+                .id(1L)
+                .email("benchmark@hobbyit.com")
+                .nickname("benchmark")
+                .state(MemberState.ACTIVE)
+                .privilege(Set.of("GENERAL"))
+                .build();
+        authentication = UsernamePasswordAuthenticationToken.authenticated(member.getEmail(), null, member.getAuthorities());
+        accessToken = jwtTokenProvider.generateToken(authentication, member, RefreshTokenStore.DEFAULT_DEVICE_ID).getAccessToken();
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        response = new MockHttpServletResponse();
+        filterChain = (servletRequest, servletResponse) -> { };
+
+        // 캐시 적중 경로를 측정하기 위해 한 번 통과시켜 둔다.
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+    }
+
+    @Benchmark
+    public MemberResponse generateToken() {
+        return jwtTokenProvider.generateToken(authentication, member, RefreshTokenStore.DEFAULT_DEVICE_ID);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    // 토큰 파싱만 (검증과 클레임 추출을 한 번에)
+    @Benchmark
+    public ParsedToken parseToken() {
+        return jwtTokenProvider.parseToken(accessToken);
+    }
+
+    // 필터의 캐시 적중 경로
+    @Benchmark
+    public void doFilter(Blackhole blackhole) throws Exception {
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+        blackhole.consume(request.getAttribute(ParsedToken.ATTRIBUTE));
+        request.removeAttribute(ParsedToken.ATTRIBUTE);
+        SecurityContextHolder.clearContext();
+    }
+
+    // 필터의 캐시 미스 경로 (파싱, epoch 확인, 캐시 저장)
+    @Benchmark
+    public void doFilterMiss(Blackhole blackhole) throws Exception {
+        missFilter.doFilter(request, response, filterChain);
+        blackhole.consume(request.getAttribute(ParsedToken.ATTRIBUTE));
+        request.removeAttribute(ParsedToken.ATTRIBUTE);
+        SecurityContextHolder.clearContext();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<?> type) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> null);
+    }
+
+    private static Message epochMessage(String body) {
+        return new DefaultMessage(TokenEpochStore.EPOCH_TOPIC.getTopic().getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,6 +4,9 @@ import com.a505.hobbyit.article.dto.ArticleRequest;
 import com.a505.hobbyit.article.dto.ArticleResponse;
 import com.a505.hobbyit.article.dto.OwnHobbyResponse;
 import com.a505.hobbyit.article.service.ArticleService;
+import com.a505.hobbyit.common.counter.ViewDeduplicator;
+import com.a505.hobbyit.jwt.ParsedToken;
+import com.a505.hobbyit.member.context.MemberContext;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,7 +15,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -20,8 +22,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -49,11 +49,11 @@ public class ArticleController {
     })
     @PostMapping("/{hobby-id}")
     ResponseEntity<Void> createArticle(
-            @AuthenticationPrincipal UserDetails userDetails,
+            final MemberContext memberContext,
             @PathVariable("hobby-id") @Parameter(description = "홍보할 모임 ID", example = "1") Long hobbyId,
             @RequestBody @Parameter(description = "게시할 글의 정보") ArticleRequest articleRequest
     ) {
-        articleService.save(Long.parseLong(userDetails.getUsername()), hobbyId, articleRequest);
+        articleService.save(memberContext, hobbyId, articleRequest);
         return ResponseEntity.ok().build();
     }
 
@@ -84,9 +84,13 @@ public class ArticleController {
     @GetMapping("/{article-id}")
     ResponseEntity<ArticleResponse> findArticle(
             @PathVariable("article-id") @Parameter(description = "조회할 글의 ID", example = "1") Long articleId,
-            HttpServletRequest request, HttpServletResponse response
+            @RequestAttribute(value = ParsedToken.ATTRIBUTE, required = false) final ParsedToken token,
+            HttpServletRequest request
     ) {
-        ArticleResponse articleResponse = articleService.findById(articleId, request, response);
+        String viewer = token == null
+                ? ViewDeduplicator.anonymousViewer(request.getRemoteAddr())
+                : ViewDeduplicator.memberViewer(Long.valueOf(token.getMemberId()));
+        ArticleResponse articleResponse = articleService.findById(articleId, viewer);
         return ResponseEntity.ok(articleResponse);
     }
 
@@ -121,11 +125,11 @@ public class ArticleController {
     })
     @PutMapping("/{article-id}")
     ResponseEntity<Void> updateArticle(
-            @AuthenticationPrincipal UserDetails userDetails,
+            final MemberContext memberContext,
             @PathVariable("article-id") @Parameter(description = "수정할 글의 id", example = "1") Long articleId,
             @RequestBody @Parameter(description = "수정할 글의 정보") ArticleRequest articleRequest
     ) {
-        articleService.update(Long.parseLong(userDetails.getUsername()), articleId, articleRequest);
+        articleService.update(memberContext, articleId, articleRequest);
         return ResponseEntity.noContent().build();
     }
 
@@ -141,10 +145,10 @@ public class ArticleController {
     })
     @DeleteMapping("/{article-id}")
     ResponseEntity<Void> deleteArticle(
-            @AuthenticationPrincipal UserDetails userDetails,
+            final MemberContext memberContext,
             @PathVariable("article-id") @Parameter(description = "삭제할 글의 id", example = "1") Long articleId
     ) {
-        articleService.deleteById(Long.parseLong(userDetails.getUsername()), articleId);
+        articleService.deleteById(memberContext, articleId);
         return ResponseEntity.noContent().build();
     }
 
@@ -170,10 +174,10 @@ public class ArticleController {
     )
     @GetMapping("/possession")
     public ResponseEntity<Map<String, List<OwnHobbyResponse>>> getOwnHobby(
-            @AuthenticationPrincipal UserDetails userDetails
+            final MemberContext memberContext
     ) {
         Map<String, List<OwnHobbyResponse>> resultMap = new HashMap<>();
-        List<OwnHobbyResponse> responses = articleService.getOwnHobbyList(Long.parseLong(userDetails.getUsername()));
+        List<OwnHobbyResponse> responses = articleService.getOwnHobbyList(memberContext);
         resultMap.put("ownHobbyList", responses);
         return ResponseEntity.ok(resultMap);
     }
@@ -56,8 +56,4 @@ public class Article extends BaseEntity {
         this.title = articleRequest.getTitle();
         this.content = articleRequest.getContent();
     }
-
-    public void updateHit() {
-        this.hit++;
-    }
 }
@@ -48,6 +48,11 @@ public class ArticleResponse {
     private int hit;
 
     public ArticleResponse of(Article article) {
+        return of(article, 0);
+    }
+
+    // pendingHit: 아직 DB 에 반영되지 않은 조회수 증가분
+    public ArticleResponse of(Article article, long pendingHit) {
         return ArticleResponse.builder()
                 .id(article.getId())
                 .nickname(article.getMember().getNickname())
@@ -58,7 +63,7 @@ public class ArticleResponse {
                 .content(article.getContent())
                 .regDt(article.getWritedDate())
                 .chgDt(article.getModifiedDate())
-                .hit(article.getHit())
+                .hit((int) (article.getHit() + pendingHit))
                 .build();
     }
 }
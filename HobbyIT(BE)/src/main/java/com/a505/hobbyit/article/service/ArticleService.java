@@ -3,8 +3,7 @@ package com.a505.hobbyit.article.service;
 import com.a505.hobbyit.article.dto.ArticleRequest;
 import com.a505.hobbyit.article.dto.ArticleResponse;
 import com.a505.hobbyit.article.dto.OwnHobbyResponse;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
+import com.a505.hobbyit.member.context.MemberContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -14,19 +13,19 @@ import java.util.List;
 
 public interface ArticleService {
 
-    void save(Long memberId, Long hobbyId, ArticleRequest articleRequest);
+    void save(MemberContext memberContext, Long hobbyId, ArticleRequest articleRequest);
 
     Page<ArticleResponse> findArticlesByPageRequest(
             @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable
     );
 
-    ArticleResponse findById(Long articleId, HttpServletRequest request, HttpServletResponse response);
+    ArticleResponse findById(Long articleId, String viewer);
 
-    void update(Long memberId, Long articleId, ArticleRequest articleRequest);
+    void update(MemberContext memberContext, Long articleId, ArticleRequest articleRequest);
 
-    void deleteById(Long memberId, Long articleId);
+    void deleteById(MemberContext memberContext, Long articleId);
 
     long count();
 
-    List<OwnHobbyResponse> getOwnHobbyList(Long memberId);
+    List<OwnHobbyResponse> getOwnHobbyList(MemberContext memberContext);
 }
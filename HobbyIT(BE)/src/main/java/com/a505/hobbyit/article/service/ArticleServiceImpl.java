@@ -7,6 +7,9 @@ import com.a505.hobbyit.article.dto.ArticleResponse;
 import com.a505.hobbyit.article.dto.OwnHobbyResponse;
 import com.a505.hobbyit.article.exception.NoSuchArticleException;
 import com.a505.hobbyit.article.exception.UnAuthorizedArticleException;
+import com.a505.hobbyit.common.counter.CounterType;
+import com.a505.hobbyit.common.counter.ViewDeduplicator;
+import com.a505.hobbyit.common.counter.WriteBehindCounter;
 import com.a505.hobbyit.hobby.domain.Hobby;
 import com.a505.hobbyit.hobby.domain.HobbyRepository;
 import com.a505.hobbyit.hobby.exception.NoSuchHobbyException;
@@ -14,12 +17,9 @@ import com.a505.hobbyit.hobbymember.domain.HobbyMember;
 import com.a505.hobbyit.hobbymember.domain.HobbyMemberRepository;
 import com.a505.hobbyit.hobbymember.enums.HobbyMemberPrivilege;
 import com.a505.hobbyit.hobbymember.exception.NoSuchHobbyMemberException;
+import com.a505.hobbyit.member.context.MemberContext;
 import com.a505.hobbyit.member.domain.Member;
 import com.a505.hobbyit.member.domain.MemberRepository;
-import com.a505.hobbyit.member.exception.NoSuchMemberException;
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -28,9 +28,6 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -43,14 +40,13 @@ public class ArticleServiceImpl implements ArticleService {
     private final MemberRepository memberRepository;
     private final HobbyRepository hobbyRepository;
     private final HobbyMemberRepository hobbyMemberRepository;
-    private static final String COOKIE_NAME_FORM = "ViewedArticleID";
+    private final WriteBehindCounter writeBehindCounter;
+    private final ViewDeduplicator viewDeduplicator;
 
     @Transactional
     @Override
-    public void save(Long memberId, Long hobbyId, ArticleRequest articleRequest) {
-        Member member = memberRepository
-                .findById(memberId)
-                .orElseThrow(NoSuchMemberException::new);
+    public void save(MemberContext memberContext, Long hobbyId, ArticleRequest articleRequest) {
+        Member member = memberRepository.getReferenceById(memberContext.getId());
         Hobby hobby = hobbyRepository
                 .findById(hobbyId)
                 .orElseThrow(NoSuchHobbyException::new);
@@ -66,33 +62,17 @@ public class ArticleServiceImpl implements ArticleService {
     @Override
     public Page<ArticleResponse> findArticlesByPageRequest(
             @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
-        return articleRepository.findAll(pageable).map(article -> new ArticleResponse().of(article));
+        return articleRepository.findAll(pageable).map(article -> new ArticleResponse()
+                .of(article, writeBehindCounter.pending(CounterType.ARTICLE_HIT, article.getId())));
     }
 
-    @Transactional
     @Override
-    public ArticleResponse findById(Long articleId, HttpServletRequest request, HttpServletResponse response) {
+    public ArticleResponse findById(Long articleId, String viewer) {
         Article article = articleRepository
                 .findById(articleId)
                 .orElseThrow(NoSuchArticleException::new);
-        Cookie[] cookies = request.getCookies();
-        if (cookies == null ||
-                Arrays.stream(cookies)
-                        .filter(cookie -> cookie.getName().equals(COOKIE_NAME_FORM + articleId))
-                        .findAny()
-                        .isEmpty()) {
-            Cookie cookie = new Cookie(COOKIE_NAME_FORM + articleId, String.valueOf(articleId));
-            cookie.setMaxAge(
-                    (int) LocalDateTime.now().until(
-                            LocalDateTime.now().plusHours(1L).truncatedTo(ChronoUnit.HOURS),
-                            ChronoUnit.SECONDS
-                    )
-            );
-            cookie.setHttpOnly(true);
-            response.addCookie(cookie);
-            article.updateHit();
-        }
-        return new ArticleResponse().of(article);
+        long pendingHit = viewDeduplicator.view(CounterType.ARTICLE_HIT, articleId, viewer);
+        return new ArticleResponse().of(article, pendingHit);
     }
 
     public long count() {
@@ -101,37 +81,29 @@ public class ArticleServiceImpl implements ArticleService {
 
     @Transactional
     @Override
-    public void update(Long memberId, Long articleId, ArticleRequest articleRequest) {
-        Member member = memberRepository
-                .findById(memberId)
-                .orElseThrow(NoSuchMemberException::new);
+    public void update(MemberContext memberContext, Long articleId, ArticleRequest articleRequest) {
         Article article = articleRepository
                 .findById(articleId)
                 .orElseThrow(NoSuchArticleException::new);
-        if (!Objects.equals(article.getMember().getId(), member.getId()))
+        if (!Objects.equals(article.getMember().getId(), memberContext.getId()))
             throw new UnAuthorizedArticleException();
         article.updateArticle(articleRequest);
     }
 
     @Transactional
     @Override
-    public void deleteById(Long memberId, Long articleId) {
-        Member member = memberRepository
-                .findById(memberId)
-                .orElseThrow(NoSuchMemberException::new);
+    public void deleteById(MemberContext memberContext, Long articleId) {
         Article article = articleRepository
                 .findById(articleId)
                 .orElseThrow(NoSuchArticleException::new);
-        if (!Objects.equals(article.getMember().getId(), member.getId()))
+        if (!Objects.equals(article.getMember().getId(), memberContext.getId()))
             throw new UnAuthorizedArticleException();
         articleRepository.deleteById(articleId);
     }
 
     @Override
-    public List<OwnHobbyResponse> getOwnHobbyList(Long memberId) {
-        Member member = memberRepository
-                .findById(memberId)
-                .orElseThrow(NoSuchMemberException::new);
+    public List<OwnHobbyResponse> getOwnHobbyList(MemberContext memberContext) {
+        Member member = memberRepository.getReferenceById(memberContext.getId());
         return hobbyMemberRepository.getOwnHobbyList(member);
     }
 }
@@ -1,5 +1,7 @@
 package com.a505.hobbyit.common.config;
 
+import com.a505.hobbyit.common.redis.RedisNearCache;
+import io.lettuce.core.RedisURI;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,7 +9,9 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class RedisConfiguration {
@@ -24,6 +28,12 @@ public class RedisConfiguration {
     @Value("${spring.data.redis.password}")
     private String redisPassword;
 
+    @Value("${spring.data.redis.client-cache.enabled:false}")
+    private boolean clientCacheEnabled;
+
+    @Value("${spring.data.redis.client-cache.maximum-size:10000}")
+    private long clientCacheMaximumSize;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory(){
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
@@ -44,4 +54,31 @@ public class RedisConfiguration {
         return stringRedisTemplate;
     }
 
+    /*
+    노드 간 캐시 무효화 메시지(pub/sub)를 수신하는 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(){
+        RedisMessageListenerContainer redisMessageListenerContainer = new RedisMessageListenerContainer();
+        redisMessageListenerContainer.setConnectionFactory(redisConnectionFactory());
+        return redisMessageListenerContainer;
+    }
+
+    /*
+    자주 읽는 키의 near cache
+    spring.data.redis.client-cache.enabled 가 true 이면 RESP3 CLIENT TRACKING 으로 Redis 가 무효화를 알려준다.
+     */
+    @Bean
+    public RedisNearCache redisNearCache(){
+        RedisNearCache redisNearCache = new RedisNearCache(stringRedisTemplate());
+        if (clientCacheEnabled) {
+            RedisURI.Builder builder = RedisURI.builder().withHost(redisHost).withPort(redisPort);
+            if (StringUtils.hasText(redisPassword)) {
+                builder.withPassword(redisPassword.toCharArray());
+            }
+            redisNearCache.enable(builder.build(), clientCacheMaximumSize);
+        }
+        return redisNearCache;
+    }
+
 }
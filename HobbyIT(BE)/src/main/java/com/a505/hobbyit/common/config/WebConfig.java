@@ -1,12 +1,31 @@
 package com.a505.hobbyit.common.config;
 
+import com.a505.hobbyit.member.context.MemberContext;
+import com.a505.hobbyit.member.context.MemberContextArgumentResolver;
+import lombok.RequiredArgsConstructor;
+import org.apache.catalina.valves.RemoteIpValve;
+import org.springdoc.core.utils.SpringDocUtils;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    static {
+        // MemberContext 는 resolver 가 채우므로 API 문서의 요청 파라미터에서 제외
+        SpringDocUtils.getConfig().addRequestWrapperToIgnore(MemberContext.class);
+    }
+
+    private final MemberContextArgumentResolver memberContextArgumentResolver;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -15,4 +34,23 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedMethods("GET", "POST", "PUT", "DELETE")
                 .allowCredentials(true);
     }
+
+    /*
+    프록시 뒤에서도 request.getRemoteAddr() 가 X-Forwarded-For 의 클라이언트 IP 를 돌려주도록 한다.
+    server.forward-headers-strategy=native 와 같으며, 신뢰하는 프록시는 RemoteIpValve 기본값(사설, loopback 대역)이다.
+    */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> remoteIpValveCustomizer() {
+        return factory -> {
+            RemoteIpValve valve = new RemoteIpValve();
+            valve.setRemoteIpHeader("X-Forwarded-For");
+            valve.setProtocolHeader("X-Forwarded-Proto");
+            factory.addEngineValves(valve);
+        };
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(memberContextArgumentResolver);
+    }
 }
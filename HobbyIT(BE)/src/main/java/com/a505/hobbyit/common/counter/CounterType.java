@@ -0,0 +1,14 @@
+package com.a505.hobbyit.common.counter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 쓰기 지연 카운터 대상과 반영할 컬럼
+@Getter
+@RequiredArgsConstructor
+public enum CounterType {
+    ARTICLE_HIT("UPDATE article SET hit = hit + ? WHERE id = ?"),
+    HOBBY_ARTICLE_HIT("UPDATE hobby_article SET hit = hit + ? WHERE id = ?");
+
+    private final String updateSql;
+}
@@ -0,0 +1,60 @@
+package com.a505.hobbyit.common.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+게시글 조회수 중복 제거
+- 게시글, 시간대(hour)별 HyperLogLog 키에 조회자를 PFADD 하고, 레지스터가 바뀐 경우(처음 본 조회자)만 조회수를 올린다.
+- 키 하나는 조회자 수와 관계없이 최대 12KB 이므로 게시글당 메모리가 일정하고, 시간이 바뀌면 새 키로 넘어가 한 시간에 한 번씩 다시 집계된다.
+- HyperLogLog 특성상 드물게 새 조회자를 이미 본 것으로 판단해 조회수가 덜 오를 수 있다.
+- 조회자는 로그인 회원이면 회원 id, 아니면 IP 로 구분한다. IP 는 WebConfig 의 RemoteIpValve 가
+  X-Forwarded-For 에서 꺼낸 클라이언트 주소이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewDeduplicator {
+
+    private static final String KEY_PREFIX = "view:";
+    private static final Duration KEY_TTL = Duration.ofHours(1);
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final WriteBehindCounter writeBehindCounter;
+
+    public static String memberViewer(Long memberId) {
+        return "m:" + memberId;
+    }
+
+    public static String anonymousViewer(String remoteAddr) {
+        return "ip:" + remoteAddr;
+    }
+
+    // 이번 시간대에 처음 본 조회자면 조회수를 올리고, 반영 대기 중인 증가분을 돌려준다.
+    public long view(CounterType type, Long id, String viewer) {
+        if (isFirstView(type, id, viewer)) {
+            writeBehindCounter.increment(type, id);
+        }
+        return writeBehindCounter.pending(type, id);
+    }
+
+    private boolean isFirstView(CounterType type, Long id, String viewer) {
+        String key = KEY_PREFIX + type.name().toLowerCase() + ":" + id + ":" + System.currentTimeMillis() / HOUR_MILLIS;
+        try {
+            Long added = stringRedisTemplate.opsForHyperLogLog().add(key, viewer);
+            if (added == null || added == 0) return false;
+            stringRedisTemplate.expire(key, KEY_TTL);
+            return true;
+        } catch (DataAccessException e) {
+            // Redis 장애로 조회 자체가 실패하지 않도록 중복 제거 없이 집계한다.
+            log.warn("view dedupe unavailable: {}", e.getMessage());
+            return true;
+        }
+    }
+}
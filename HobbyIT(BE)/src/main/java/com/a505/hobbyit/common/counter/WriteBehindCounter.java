@@ -0,0 +1,122 @@
+package com.a505.hobbyit.common.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+조회수 같은 카운터의 쓰기 지연(write-behind)
+- 요청 경로에서는 노드 메모리의 LongAdder 에만 더하고, 주기적으로(그리고 종료 시) 모아서
+  "SET hit = hit + ?" batch UPDATE 로 반영한다. 노드마다 자신의 증가분만 더하므로 여러 노드에서도 안전하다.
+- 응답에는 DB 값에 아직 반영되지 않은 증가분(pending)을 더해 보여준다.
+  반영 중인 증가분은 inFlight 로 옮겨 두었다가 batch 가 끝난 뒤에 빼므로, 반영 도중에도 조회수가 줄어 보이지 않는다.
+- 반영에 실패한 증가분은 다시 더해 두었다가 다음 주기에 반영한다.
+- 한 주기 동안 증가가 없던 항목은 정리한다. 정리와 동시에 옛 항목에 더해진 증가분은
+  더한 쪽이 retired 를 보고 새 항목으로 옮기거나, 정리한 쪽이 마저 거둬 새 항목에 더하므로 사라지지 않는다.
+ */
+@Slf4j
+@Component
+public class WriteBehindCounter implements DisposableBean {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<CounterType, Map<Long, Cell>> counters = new EnumMap<>(CounterType.class);
+
+    public WriteBehindCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (CounterType type : CounterType.values()) {
+            counters.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void increment(CounterType type, Long id) {
+        add(type, id, 1);
+    }
+
+    public long pending(CounterType type, Long id) {
+        Cell cell = counters.get(type).get(id);
+        // inFlight 를 먼저 읽는다. flush 는 inFlight 에 더한 뒤 adder 에서 빼므로 반영 중인 증가분이 빠져 보이지 않는다.
+        return cell == null ? 0 : cell.inFlight.get() + cell.adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${counter.flush-interval:5000}")
+    public void flush() {
+        for (CounterType type : CounterType.values()) {
+            flush(type);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void add(CounterType type, Long id, long delta) {
+        Map<Long, Cell> cells = counters.get(type);
+        while (delta != 0) {
+            Cell cell = cells.computeIfAbsent(id, key -> new Cell());
+            cell.adder.add(delta);
+            if (!cell.retired) return;
+            // 정리된 항목에 더했다. 정리한 쪽이 아직 거두지 않은 만큼을 새 항목으로 옮긴다.
+            delta = cell.adder.sumThenReset();
+        }
+    }
+
+    private void flush(CounterType type) {
+        Map<Long, Cell> cells = counters.get(type);
+        List<Object[]> batch = new ArrayList<>();
+        List<Cell> flushed = new ArrayList<>();
+        for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+            Cell cell = entry.getValue();
+            long delta = cell.adder.sum();
+            if (delta == 0) {
+                cells.computeIfPresent(entry.getKey(), (key, current) -> {
+                    if (current != cell || current.adder.sum() != 0 || current.inFlight.get() != 0) return current;
+                    current.retired = true;
+                    return null;
+                });
+                // retired 를 보기 전에 더해진 증가분은 여기서 거둬 새 항목에 더한다.
+                if (cell.retired) {
+                    long late = cell.adder.sumThenReset();
+                    if (late != 0) add(type, entry.getKey(), late);
+                }
+                continue;
+            }
+            cell.inFlight.addAndGet(delta);
+            cell.adder.add(-delta);
+            batch.add(new Object[]{delta, entry.getKey()});
+            flushed.add(cell);
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(type.getUpdateSql(), batch);
+        } catch (RuntimeException e) {
+            log.warn("counter flush failed, retry next time: {} ({} rows)", type, batch.size(), e);
+            for (Object[] row : batch) {
+                add(type, (Long) row[1], (Long) row[0]);
+            }
+        }
+        // 반영(또는 다시 더하기)이 끝난 뒤에 빼야 pending 이 반영 도중 줄어들지 않는다.
+        for (int i = 0; i < batch.size(); i++) {
+            long delta = (Long) batch.get(i)[0];
+            flushed.get(i).inFlight.addAndGet(-delta);
+        }
+    }
+
+    private static final class Cell {
+        private final LongAdder adder = new LongAdder();
+        // DB 에 반영 중인 증가분
+        private final AtomicLong inFlight = new AtomicLong();
+        private volatile boolean retired;
+    }
+}
@@ -19,6 +19,7 @@ import com.a505.hobbyit.member.exception.InvalidedRefreshTokenException;
 import com.a505.hobbyit.member.exception.NoSuchMemberException;
 import com.a505.hobbyit.pending.exception.DuplicatedPendingException;
 import com.a505.hobbyit.pending.exception.NoSuchPendingException;
+import com.a505.hobbyit.security.exception.PasswordHashingBusyException;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -111,4 +112,16 @@ public class ControllerAdvice {
         log.info(e.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
+
+    /*
+    비밀번호 암호화 대기열이 가득 찼을 때 발생하는 문제
+     */
+    @ExceptionHandler({
+            PasswordHashingBusyException.class
+    })
+    public ResponseEntity<ErrorResponse> passwordHashingBusyException(final RuntimeException e){
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage());
+        log.info(e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
 }
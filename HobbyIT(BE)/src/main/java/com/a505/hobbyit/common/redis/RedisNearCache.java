@@ -0,0 +1,128 @@
+package com.a505.hobbyit.common.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.support.caching.CacheAccessor;
+import io.lettuce.core.support.caching.CacheFrontend;
+import io.lettuce.core.support.caching.ClientSideCaching;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+자주 읽고 드물게 바뀌는 Redis 문자열 키의 읽기 전용 near cache
+- 활성화하면 RESP3 CLIENT TRACKING 을 켠 별도 연결로 읽고, 값이 바뀌면 Redis 가 보내는 무효화 메시지로 로컬 값을 지운다.
+- 비활성화 상태에서는 StringRedisTemplate 으로 매번 조회한다.
+- 쓰기는 항상 StringRedisTemplate 으로 한다.
+ */
+@Slf4j
+public class RedisNearCache implements DisposableBean {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private RedisClient redisClient;
+    private StatefulRedisConnection<String, String> connection;
+    private CacheFrontend<String, String> cacheFrontend;
+
+    public RedisNearCache(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    // CLIENT TRACKING 연결을 열고 near cache 활성화
+    public void enable(RedisURI redisURI, long maximumSize) {
+        Map<String, String> local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .<String, String>build()
+                .asMap();
+        redisClient = RedisClient.create(redisURI);
+        redisClient.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+        connection = redisClient.connect();
+        cacheFrontend = ClientSideCaching.enable(new CountingCacheAccessor(local), connection, TrackingArgs.Builder.enabled());
+        log.info("redis client-side caching enabled (maximumSize={})", maximumSize);
+    }
+
+    public String get(String key) {
+        if (cacheFrontend == null) {
+            return stringRedisTemplate.opsForValue().get(key);
+        }
+        return cacheFrontend.get(key);
+    }
+
+    public boolean isEnabled() {
+        return cacheFrontend != null;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${spring.data.redis.client-cache.metrics-interval:60000}")
+    public void logMetrics() {
+        if (cacheFrontend != null) {
+            log.info("redis near cache: hits={}, misses={}", hits.sum(), misses.sum());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (cacheFrontend != null) {
+            cacheFrontend.close();
+        }
+        if (connection != null) {
+            connection.close();
+        }
+        if (redisClient != null) {
+            redisClient.shutdown();
+        }
+    }
+
+    // 로컬 조회 결과로 적중/실패 횟수를 센다. 실패하면 ClientSideCaching 이 Redis 에서 읽어 put 한다.
+    private class CountingCacheAccessor implements CacheAccessor<String, String> {
+        private final Map<String, String> local;
+
+        private CountingCacheAccessor(Map<String, String> local) {
+            this.local = local;
+        }
+
+        @Override
+        public String get(String key) {
+            String value = local.get(key);
+            if (value == null) {
+                misses.increment();
+            } else {
+                hits.increment();
+            }
+            return value;
+        }
+
+        // 없는 키를 읽으면 value 가 null 로 온다. Caffeine map 은 null 을 담을 수 없으므로 캐시하지 않는다.
+        @Override
+        public void put(String key, String value) {
+            if (value == null) {
+                local.remove(key);
+                return;
+            }
+            local.put(key, value);
+        }
+
+        @Override
+        public void evict(String key) {
+            local.remove(key);
+        }
+    }
+}
@@ -2,16 +2,19 @@ package com.a505.hobbyit.hobby.controller;
 
 import com.a505.hobbyit.hobby.dto.*;
 import com.a505.hobbyit.hobby.service.HobbyService;
+import com.a505.hobbyit.hobbymember.enums.HobbyMemberPrivilege;
+import com.a505.hobbyit.member.context.MemberContext;
 import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -25,20 +28,19 @@ public class HobbyController {
 
     @PostMapping
     public ResponseEntity<Void> createHobby(
-            @AuthenticationPrincipal UserDetails userDetails,
+            final MemberContext memberContext,
             @RequestPart("multipartFile") MultipartFile multipartFile,
             @RequestPart("request") HobbyRequest requestDto) {
-        hobbyService.save(userDetails.getUsername(), multipartFile, requestDto);
+        hobbyService.save(memberContext, multipartFile, requestDto);
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
     @GetMapping(value = "/{hobby-id}")
     public ResponseEntity<HobbyAndMemberResponse> findHobby(
-            @AuthenticationPrincipal UserDetails userDetails,
+            final MemberContext memberContext,
             @PathVariable(value = "hobby-id") final Long hobbyId) {
 
-        log.info("===============" + userDetails.getUsername() + userDetails.getAuthorities() + "===========================");
-        HobbyAndMemberResponse response = hobbyService.findById(userDetails.getUsername(), hobbyId);
+        HobbyAndMemberResponse response = hobbyService.findById(memberContext, hobbyId);
         return ResponseEntity.ok(response);
     }
 
@@ -48,6 +50,52 @@ public class HobbyController {
         return ResponseEntity.ok(responses);
     }
 
+    /*
+    no-offset 방식 모임 리스트
+    */
+    @GetMapping(value = "/list")
+    public ResponseEntity<Slice<HobbyResponse>> findHobbySlice(
+            @RequestParam(required = false) final Long storedId,
+            final Pageable pageable) {
+        Slice<HobbyResponse> responses = hobbyService.findSlice(storedId, pageable);
+        return ResponseEntity.ok(responses);
+    }
+
+    /*
+    모임 전체 내보내기 - 목록을 메모리에 모으지 않고 스트리밍한다.
+    */
+    @GetMapping(value = "/export")
+    public ResponseEntity<StreamingResponseBody> exportHobbies() {
+        StreamingResponseBody body = hobbyService::export;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /*
+    이름, 카테고리, 소개글 통합 검색
+    */
+    @GetMapping(value = "/search")
+    public ResponseEntity<List<HobbyResponse>> searchHobbies(@RequestParam(value = "keyword") String keyWord, Pageable pageable) {
+        List<HobbyResponse> responses = hobbyService.search(keyWord, pageable);
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping(value = "/search/autocomplete")
+    public ResponseEntity<List<HobbyAutocompleteResponse>> autocompleteHobbies(@RequestParam(value = "keyword") String keyWord) {
+        List<HobbyAutocompleteResponse> responses = hobbyService.autocomplete(keyWord);
+        return ResponseEntity.ok(responses);
+    }
+
+    /*
+    카테고리별 모임 수, 회원 수
+    */
+    @GetMapping(value = "/category")
+    public ResponseEntity<List<HobbyCategoryResponse>> findCategories() {
+        List<HobbyCategoryResponse> responses = hobbyService.findCategories();
+        return ResponseEntity.ok(responses);
+    }
+
     @GetMapping(value = "/search/category")
     public ResponseEntity<List<HobbyResponse>> searchHobbiesByCategory(@RequestParam(value = "keyword") String keyWord, Pageable pageable) {
         List<HobbyResponse> responses = hobbyService.searchByCategory(keyWord, pageable);
@@ -71,6 +119,15 @@ public class HobbyController {
         return ResponseEntity.ok(responses);
     }
 
+    /*
+    함께 가입한 회원이 많은 유사 모임
+    */
+    @GetMapping(value = "/{hobby-id}/similar")
+    public ResponseEntity<List<HobbyResponse>> findSimilarHobbies(@PathVariable(value = "hobby-id") Long hobbyId) {
+        List<HobbyResponse> responses = hobbyService.findSimilarHobby(hobbyId);
+        return ResponseEntity.ok(responses);
+    }
+
     /*
     #18. 모임 회원 명단 확인 API
     */
@@ -80,22 +137,36 @@ public class HobbyController {
         return ResponseEntity.status(HttpStatus.OK).body(responses);
     }
 
+    /*
+    no-offset 방식 모임 회원 명단 - 권한, 닉네임, id 순이며 이전 페이지 마지막 회원의 값을 넘긴다.
+    */
+    @GetMapping(value = "/{hobby-id}/member/slice")
+    public ResponseEntity<Slice<HobbyMemberResponse>> findHobbyMemberSlice(
+            @PathVariable(value = "hobby-id") final Long hobbyId,
+            @RequestParam(required = false) final HobbyMemberPrivilege privilege,
+            @RequestParam(required = false) final String nickname,
+            @RequestParam(required = false) final Long storedId,
+            final Pageable pageable) {
+        Slice<HobbyMemberResponse> responses = hobbyService.findHobbyMemberSlice(hobbyId, privilege, nickname, storedId, pageable);
+        return ResponseEntity.ok(responses);
+    }
+
     @PutMapping(value = "/{hobby-id}")
     public ResponseEntity<Void> updateHobby(@Parameter(description = "게시할 글의 정보")
-                                                @AuthenticationPrincipal UserDetails userDetails,
+                                                final MemberContext memberContext,
                                             @PathVariable("hobby-id") Long hobbyId,
                                             @RequestPart("multipartFile") MultipartFile multipartFile,
                                             @RequestPart("request") HobbyUpdateRequest request) {
-        hobbyService.updateHobby(userDetails.getUsername(), hobbyId, multipartFile, request);
+        hobbyService.updateHobby(memberContext, hobbyId, multipartFile, request);
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
     @DeleteMapping(value = "/{hobby-id}")
     public ResponseEntity<Void> deleteHobby(
-            @AuthenticationPrincipal UserDetails userDetails,
+            final MemberContext memberContext,
             @PathVariable(value = "hobby-id") final Long hobbyId) {
 
-        hobbyService.deleteHobby(hobbyId, userDetails.getUsername());
+        hobbyService.deleteHobby(hobbyId, memberContext);
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 }
@@ -0,0 +1,94 @@
+package com.a505.hobbyit.hobby.detail;
+
+import com.a505.hobbyit.hobby.domain.HobbyRepository;
+import com.a505.hobbyit.hobby.dto.HobbyDetail;
+import com.a505.hobbyit.hobby.event.HobbyChangeListener;
+import com.a505.hobbyit.hobby.exception.NoSuchHobbyException;
+import com.a505.hobbyit.hobbymember.domain.HobbyMemberRepository;
+import com.a505.hobbyit.hobbymember.dto.HobbyMembership;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+모임 홈 화면 캐시
+- 소모임 정보는 소모임 id 로, 가입 여부와 권한은 (회원 id, 소모임 id) 로 나누어 캐시한다.
+- 둘 다 있으면 DB 를 읽지 않고 HobbyAndMemberResponse 를 조립할 수 있다.
+- 가입하지 않은 회원도 NONE 으로 캐시하며, 변경 이벤트를 받으면 모든 노드에서 해당 항목을 지운다.
+ */
+@Order(5)
+@Component
+public class HobbyDetailCache implements HobbyChangeListener {
+
+    private final HobbyRepository hobbyRepository;
+    private final HobbyMemberRepository hobbyMemberRepository;
+    private final Cache<Long, HobbyDetail> details;
+    private final Cache<MembershipKey, HobbyMembership> memberships;
+
+    public HobbyDetailCache(HobbyRepository hobbyRepository,
+                            HobbyMemberRepository hobbyMemberRepository,
+                            @Value("${hobby.detail-cache.maximum-size:10000}") long detailMaximumSize,
+                            @Value("${hobby.detail-cache.membership-maximum-size:100000}") long membershipMaximumSize,
+                            @Value("${hobby.detail-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.hobbyRepository = hobbyRepository;
+        this.hobbyMemberRepository = hobbyMemberRepository;
+        this.details = Caffeine.newBuilder()
+                .maximumSize(detailMaximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.memberships = Caffeine.newBuilder()
+                .maximumSize(membershipMaximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public HobbyDetail getDetail(Long hobbyId) {
+        HobbyDetail detail = details.get(hobbyId, id -> hobbyRepository.findById(id)
+                .map(hobby -> new HobbyDetail().of(hobby))
+                .orElse(null));
+        if (detail == null) {
+            throw new NoSuchHobbyException("요청하신 소모임을 찾을 수 없습니다.");
+        }
+        return detail;
+    }
+
+    public HobbyMembership getMembership(Long memberId, Long hobbyId) {
+        return memberships.get(new MembershipKey(memberId, hobbyId),
+                key -> hobbyMemberRepository.findMembership(key.memberId(), key.hobbyId()).orElse(HobbyMembership.NONE));
+    }
+
+    @Override
+    public void hobbyChanged(Long hobbyId) {
+        details.invalidate(hobbyId);
+    }
+
+    @Override
+    public void hobbyDeleted(Long hobbyId) {
+        details.invalidate(hobbyId);
+        memberships.asMap().keySet().removeIf(key -> key.hobbyId().equals(hobbyId));
+    }
+
+    @Override
+    public void memberJoined(Long hobbyId, Long memberId) {
+        details.invalidate(hobbyId);
+        memberships.invalidate(new MembershipKey(memberId, hobbyId));
+    }
+
+    @Override
+    public void memberLeft(Long hobbyId, Long memberId) {
+        details.invalidate(hobbyId);
+        memberships.invalidate(new MembershipKey(memberId, hobbyId));
+    }
+
+    @Override
+    public void memberChanged(Long hobbyId, Long memberId) {
+        memberships.invalidate(new MembershipKey(memberId, hobbyId));
+    }
+
+    private record MembershipKey(Long memberId, Long hobbyId) {
+    }
+}
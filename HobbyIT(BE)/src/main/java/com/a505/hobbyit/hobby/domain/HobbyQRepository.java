@@ -0,0 +1,23 @@
+package com.a505.hobbyit.hobby.domain;
+
+import com.a505.hobbyit.hobby.dto.HobbyResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface HobbyQRepository {
+    List<HobbyResponse> findHobbyResponses();
+    List<HobbyResponse> findHobbyResponsesByIds(Collection<Long> ids);
+    List<HobbyResponse> findHobbyResponsesByName(String keyword, Pageable pageable);
+    List<HobbyResponse> findHobbyResponsesByCategory(String keyword, Pageable pageable);
+    List<HobbyResponse> findHobbyResponsesByKeyword(String keyword, Pageable pageable);
+    List<HobbyResponse> findFreshHobbyResponses(int size);
+    List<HobbyResponse> findLargestHobbyResponses(int size);
+    Slice<HobbyResponse> findHobbySlice(Long storedId, Pageable pageable);
+    Stream<HobbyResponse> streamHobbyResponses();
+}
@@ -0,0 +1,161 @@
+package com.a505.hobbyit.hobby.domain;
+
+import com.a505.hobbyit.hobby.dto.HobbyResponse;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+/*
+모임 목록 조회
+- 목록 응답에 필요한 컬럼만 HobbyResponse 로 바로 projection 하여 엔티티와 스냅샷을 만들지 않는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class HobbyQRepositoryImpl implements HobbyQRepository {
+
+    private final JPAQueryFactory queryFactory;
+    QHobby hobby = QHobby.hobby;
+
+    @Override
+    public List<HobbyResponse> findHobbyResponses() {
+        return queryFactory
+                .select(hobbyResponse())
+                .from(hobby)
+                .fetch();
+    }
+
+    @Override
+    public List<HobbyResponse> findHobbyResponsesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        return queryFactory
+                .select(hobbyResponse())
+                .from(hobby)
+                .where(hobby.id.in(ids))
+                .fetch();
+    }
+
+    @Override
+    public List<HobbyResponse> findHobbyResponsesByName(String keyword, Pageable pageable) {
+        return queryFactory
+                .select(hobbyResponse())
+                .from(hobby)
+                .where(hobby.name.contains(keyword))
+                .orderBy(hobby.currentMemberCount.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public List<HobbyResponse> findHobbyResponsesByCategory(String keyword, Pageable pageable) {
+        return queryFactory
+                .select(hobbyResponse())
+                .from(hobby)
+                .where(hobby.category.contains(keyword))
+                .orderBy(hobby.currentMemberCount.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    // 검색 색인과 같게 이름, 카테고리, 소개 중 하나라도 대소문자 구분 없이 포함하면 찾고, 인원 많은 순 -> 최신 순으로 정렬
+    @Override
+    public List<HobbyResponse> findHobbyResponsesByKeyword(String keyword, Pageable pageable) {
+        String query = keyword.trim();
+        return queryFactory
+                .select(hobbyResponse())
+                .from(hobby)
+                .where(hobby.name.containsIgnoreCase(query)
+                        .or(hobby.category.containsIgnoreCase(query))
+                        .or(hobby.intro.containsIgnoreCase(query)))
+                .orderBy(hobby.currentMemberCount.desc(), hobby.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public List<HobbyResponse> findFreshHobbyResponses(int size) {
+        return queryFactory
+                .select(hobbyResponse())
+                .from(hobby)
+                .orderBy(hobby.createdDateTime.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<HobbyResponse> findLargestHobbyResponses(int size) {
+        return queryFactory
+                .select(hobbyResponse())
+                .from(hobby)
+                .orderBy(hobby.currentMemberCount.desc(), hobby.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public Slice<HobbyResponse> findHobbySlice(Long storedId, Pageable pageable) {
+        List<HobbyResponse> responses = queryFactory
+                .select(hobbyResponse())
+                .from(hobby)
+                .where(ltStoreId(storedId))
+                .orderBy(hobby.id.desc())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+        return checkLastPage(pageable, responses);
+    }
+
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍한다.
+    @Override
+    public Stream<HobbyResponse> streamHobbyResponses() {
+        return queryFactory
+                .select(hobbyResponse())
+                .from(hobby)
+                .orderBy(hobby.id.desc())
+                .setHint(HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .stream();
+    }
+
+    private ConstructorExpression<HobbyResponse> hobbyResponse() {
+        return Projections.constructor(HobbyResponse.class,
+                hobby.id,
+                hobby.name,
+                hobby.imgUrl,
+                hobby.currentMemberCount,
+                hobby.maxMemberCount,
+                hobby.intro,
+                hobby.category,
+                hobby.createdDateTime);
+    }
+
+    // no-offset 방식 처리하는 메서드
+    private BooleanExpression ltStoreId(Long storeId) {
+        if (storeId == null) {
+            return null;
+        }
+        return hobby.id.lt(storeId);
+    }
+
+    // 무한 스크롤 방식 처리하는 메서드
+    private Slice<HobbyResponse> checkLastPage(Pageable pageable, List<HobbyResponse> results) {
+        boolean hasNext = false;
+        if (results.size() > pageable.getPageSize()) {
+            hasNext = true;
+            results.remove(pageable.getPageSize());
+        }
+        return new SliceImpl<>(results, pageable, hasNext);
+    }
+}
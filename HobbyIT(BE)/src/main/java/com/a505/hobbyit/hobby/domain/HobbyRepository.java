@@ -7,7 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
-public interface HobbyRepository extends JpaRepository<Hobby, Long> {
+public interface HobbyRepository extends JpaRepository<Hobby, Long>, HobbyQRepository {
 
     Boolean existsByName(String name);
 
@@ -18,22 +18,6 @@ public interface HobbyRepository extends JpaRepository<Hobby, Long> {
             + "DESC", nativeQuery = true)
     List<Hobby> findByKeyword(final String keyword);
 
-    List<Hobby> findHobbiesByCategoryContainingOrderByCurrentMemberCountDesc(String keyword, Pageable pageable);
-
-    List<Hobby> findHobbiesByNameContainingOrderByCurrentMemberCountDesc(final String keyword, Pageable pageable);
     List<Hobby> findByNameLikeOrCategoryLikeOrderByIdDesc(String name, String category, Pageable pageable);
 
-    @Query(value = "SELECT * "
-            + "FROM hobby "
-            + "ORDER BY RAND() "
-            + "LIMIT 10", nativeQuery = true)
-    List<Hobby> findPopularHobby();
-
-    @Query(value = "SELECT * "
-            + "FROM hobby "
-            + "ORDER BY reg_dt "
-            + "DESC "
-            + "LIMIT 10 ", nativeQuery = true)
-    List<Hobby> findFreshHobby();
-
 }
@@ -3,6 +3,7 @@ package com.a505.hobbyit.hobby.dto;
 import com.a505.hobbyit.hobby.domain.Hobby;
 import com.a505.hobbyit.hobby.enums.HobbyFree;
 import com.a505.hobbyit.hobbymember.domain.HobbyMember;
+import com.a505.hobbyit.hobbymember.dto.HobbyMembership;
 import com.a505.hobbyit.hobbymember.enums.HobbyMemberPrivilege;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -39,4 +40,18 @@ public class HobbyAndMemberResponse {
                 .privilege(hobbyMember.getPrivilege())
                 .build();
     }
+
+    public HobbyAndMemberResponse of(HobbyDetail hobby, HobbyMembership membership){
+        return HobbyAndMemberResponse.builder()
+                .name(hobby.getName())
+                .intro(hobby.getIntro())
+                .participantsNum(hobby.getParticipantsNum())
+                .maxParticipantsNum(hobby.getMaxParticipantsNum())
+                .freeRegistration(hobby.getFreeRegistration())
+                .category(hobby.getCategory())
+                .img(hobby.getImg())
+                .hobbyMemberId(membership.getHobbyMemberId())
+                .privilege(membership.getPrivilege())
+                .build();
+    }
 }
@@ -0,0 +1,16 @@
+package com.a505.hobbyit.hobby.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HobbyCategoryResponse {
+    private String category;
+    private int hobbyCount;
+    private long memberCount;
+}
@@ -0,0 +1,35 @@
+package com.a505.hobbyit.hobby.dto;
+
+import com.a505.hobbyit.hobby.domain.Hobby;
+import com.a505.hobbyit.hobby.enums.HobbyFree;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 모임 홈 화면에서 회원과 무관하게 공유되는 부분
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HobbyDetail {
+    private String name;
+    private String img;
+    private int participantsNum;
+    private int maxParticipantsNum;
+    private String intro;
+    private String category;
+    private HobbyFree freeRegistration;
+
+    public HobbyDetail of(Hobby hobby) {
+        return HobbyDetail.builder()
+                .name(hobby.getName())
+                .intro(hobby.getIntro())
+                .participantsNum(hobby.getCurrentMemberCount())
+                .maxParticipantsNum(hobby.getMaxMemberCount())
+                .freeRegistration(hobby.getFree())
+                .category(hobby.getCategory())
+                .img(hobby.getImgUrl())
+                .build();
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 
@@ -20,6 +21,16 @@ public class HobbyMemberResponse {
     private String nickName;
     private String reg_dt;
     private HobbyMemberPrivilege privilege;
+
+    // HobbyMemberQRepositoryImpl projection 용
+    public HobbyMemberResponse(Long id, Long memberId, String nickName, LocalDateTime regDt, HobbyMemberPrivilege privilege) {
+        this.id = id;
+        this.member_id = memberId;
+        this.nickName = nickName;
+        this.reg_dt = regDt.format(DateTimeFormatter.ISO_DATE);
+        this.privilege = privilege;
+    }
+
     public HobbyMemberResponse toEntity(HobbyMember hobbyMember){
         HobbyMemberResponse build = HobbyMemberResponse
                 .builder()
@@ -21,6 +21,20 @@ public class HobbyResponse {
     private String category;
     private int freeRegistration;
     private LocalDateTime createdDate;
+
+    // HobbyQRepositoryImpl projection 용
+    public HobbyResponse(Long id, String name, String img, int participantsNum, int maxParticipantsNum,
+                         String intro, String category, LocalDateTime createdDate) {
+        this.id = id;
+        this.name = name;
+        this.img = img;
+        this.participantsNum = participantsNum;
+        this.maxParticipantsNum = maxParticipantsNum;
+        this.intro = intro;
+        this.category = category;
+        this.createdDate = createdDate;
+    }
+
     public HobbyResponse of(Hobby hobby){
         return HobbyResponse.builder()
                 .id(hobby.getId())
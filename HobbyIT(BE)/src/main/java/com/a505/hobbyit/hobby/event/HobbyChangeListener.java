@@ -0,0 +1,32 @@
+package com.a505.hobbyit.hobby.event;
+
+/*
+소모임 변경 이벤트를 받는 확장 지점
+- HobbyChangeNotifier 가 커밋 이후 Redis 채널로 발행한 이벤트를 모든 노드에서 받아 호출한다.
+- 필요한 이벤트만 구현하고, 호출 순서는 @Order 로 정한다.
+- 소모임 행이 바뀌었을 수 있는 이벤트(생성, 수정, 가입, 탈퇴) 뒤에는 hobbyUpdated 가 호출된다.
+  행이 필요한 리스너는 다시 조회하지 말고 HobbySnapshot 을 읽는다.
+ */
+public interface HobbyChangeListener {
+
+    default void hobbyCreated(Long hobbyId) {
+    }
+
+    default void hobbyChanged(Long hobbyId) {
+    }
+
+    default void hobbyDeleted(Long hobbyId) {
+    }
+
+    default void memberJoined(Long hobbyId, Long memberId) {
+    }
+
+    default void memberLeft(Long hobbyId, Long memberId) {
+    }
+
+    default void memberChanged(Long hobbyId, Long memberId) {
+    }
+
+    default void hobbyUpdated(HobbySnapshot hobby) {
+    }
+}
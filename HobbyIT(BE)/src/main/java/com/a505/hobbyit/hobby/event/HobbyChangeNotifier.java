@@ -0,0 +1,113 @@
+package com.a505.hobbyit.hobby.event;
+
+import com.a505.hobbyit.hobby.domain.HobbyRepository;
+import com.a505.hobbyit.hobby.dto.HobbyResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+/*
+소모임 변경 이벤트 발행
+- 트랜잭션 안에서 호출하면 커밋된 뒤에 발행하고, 롤백되면 발행하지 않는다.
+- 이벤트는 "타입:소모임 id:회원 id" 형식으로 Redis 채널에 발행하고, 발행한 노드를 포함한 모든 노드가 받아서 HobbyChangeListener 에 전달한다.
+- 소모임 행은 이벤트마다 한 번만 읽어 모든 리스너가 함께 쓴다.
+ */
+@Slf4j
+@Component
+public class HobbyChangeNotifier implements MessageListener {
+
+    public static final ChannelTopic CHANGE_TOPIC = new ChannelTopic("hobby:change");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final HobbyRepository hobbyRepository;
+    private final List<HobbyChangeListener> listeners;
+
+    public HobbyChangeNotifier(StringRedisTemplate stringRedisTemplate,
+                               RedisMessageListenerContainer redisMessageListenerContainer,
+                               HobbyRepository hobbyRepository,
+                               List<HobbyChangeListener> listeners) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.hobbyRepository = hobbyRepository;
+        this.listeners = listeners;
+        redisMessageListenerContainer.addMessageListener(this, CHANGE_TOPIC);
+    }
+
+    public void hobbyCreated(Long hobbyId) {
+        publish(HobbyChangeType.CREATED, hobbyId, null);
+    }
+
+    public void hobbyChanged(Long hobbyId) {
+        publish(HobbyChangeType.CHANGED, hobbyId, null);
+    }
+
+    public void hobbyDeleted(Long hobbyId) {
+        publish(HobbyChangeType.DELETED, hobbyId, null);
+    }
+
+    public void memberJoined(Long hobbyId, Long memberId) {
+        publish(HobbyChangeType.MEMBER_JOINED, hobbyId, memberId);
+    }
+
+    public void memberLeft(Long hobbyId, Long memberId) {
+        publish(HobbyChangeType.MEMBER_LEFT, hobbyId, memberId);
+    }
+
+    public void memberChanged(Long hobbyId, Long memberId) {
+        publish(HobbyChangeType.MEMBER_CHANGED, hobbyId, memberId);
+    }
+
+    private void publish(HobbyChangeType type, Long hobbyId, Long memberId) {
+        String message = type.name() + ":" + hobbyId + ":" + (memberId == null ? "" : memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stringRedisTemplate.convertAndSend(CHANGE_TOPIC.getTopic(), message);
+                }
+            });
+            return;
+        }
+        stringRedisTemplate.convertAndSend(CHANGE_TOPIC.getTopic(), message);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":", -1);
+        HobbyChangeType type = HobbyChangeType.valueOf(body[0]);
+        Long hobbyId = Long.parseLong(body[1]);
+        Long memberId = body[2].isEmpty() ? null : Long.parseLong(body[2]);
+        HobbySnapshot hobby = type == HobbyChangeType.DELETED || type == HobbyChangeType.MEMBER_CHANGED
+                ? null
+                : new HobbySnapshot(hobbyId, this::load);
+
+        for (HobbyChangeListener listener : listeners) {
+            try {
+                switch (type) {
+                    case CREATED -> listener.hobbyCreated(hobbyId);
+                    case CHANGED -> listener.hobbyChanged(hobbyId);
+                    case DELETED -> listener.hobbyDeleted(hobbyId);
+                    case MEMBER_JOINED -> listener.memberJoined(hobbyId, memberId);
+                    case MEMBER_LEFT -> listener.memberLeft(hobbyId, memberId);
+                    case MEMBER_CHANGED -> listener.memberChanged(hobbyId, memberId);
+                }
+                if (hobby != null) listener.hobbyUpdated(hobby);
+            } catch (RuntimeException e) {
+                log.error("hobby change listener failed: {} {}", listener.getClass().getSimpleName(), type, e);
+            }
+        }
+    }
+
+    private Optional<HobbyResponse> load(Long hobbyId) {
+        return hobbyRepository.findHobbyResponsesByIds(List.of(hobbyId)).stream().findFirst();
+    }
+}
@@ -0,0 +1,5 @@
+package com.a505.hobbyit.hobby.event;
+
+public enum HobbyChangeType {
+    CREATED, CHANGED, DELETED, MEMBER_JOINED, MEMBER_LEFT, MEMBER_CHANGED
+}
@@ -0,0 +1,35 @@
+package com.a505.hobbyit.hobby.event;
+
+import com.a505.hobbyit.hobby.dto.HobbyResponse;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/*
+이벤트 하나에서 공유하는 소모임 행
+- 처음 get() 할 때 한 번만 읽고, 같은 이벤트의 다른 리스너는 읽은 값을 그대로 쓴다.
+- 리스너는 Redis 구독 스레드 하나에서 차례로 호출되므로 동기화하지 않는다.
+ */
+public class HobbySnapshot {
+
+    private final Long hobbyId;
+    private final Function<Long, Optional<HobbyResponse>> loader;
+    private Optional<HobbyResponse> hobby;
+
+    public HobbySnapshot(Long hobbyId, Function<Long, Optional<HobbyResponse>> loader) {
+        this.hobbyId = hobbyId;
+        this.loader = loader;
+    }
+
+    public Long getHobbyId() {
+        return hobbyId;
+    }
+
+    // 삭제되었으면 empty
+    public Optional<HobbyResponse> get() {
+        if (hobby == null) {
+            hobby = loader.apply(hobbyId);
+        }
+        return hobby;
+    }
+}
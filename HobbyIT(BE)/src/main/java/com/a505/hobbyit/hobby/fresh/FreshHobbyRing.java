@@ -0,0 +1,191 @@
+package com.a505.hobbyit.hobby.fresh;
+
+import com.a505.hobbyit.hobby.domain.HobbyRepository;
+import com.a505.hobbyit.hobby.dto.HobbyResponse;
+import com.a505.hobbyit.hobby.event.HobbyChangeListener;
+import com.a505.hobbyit.hobby.event.HobbySnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+최근 생성된 소모임 ring buffer
+- 고정 크기 배열과 증가하는 순번으로만 동작하여 잠금 없이 추가, 조회한다.
+- 기동 시 DB 에서 채우고, 이후에는 생성한 노드가 커밋 후 직접 추가하면서 응답 전체를 "hobby:fresh" 로 발행한다.
+  다른 노드는 메시지만으로 추가하므로 "새로 생긴 모임" 조회에는 SQL 이 필요 없다.
+- 삭제되면 자리를 비우고, 이미 담긴 소모임의 정보나 회원 수가 바뀌면 그 소모임만 다시 읽어 교체한다.
+- 기동 중에 받은 생성, 삭제는 모아 두었다가 DB 에서 읽은 목록과 id 순으로 합쳐 채운다.
+ */
+@Slf4j
+@Order(4)
+@Component
+public class FreshHobbyRing implements HobbyChangeListener, MessageListener {
+
+    public static final ChannelTopic FRESH_TOPIC = new ChannelTopic("hobby:fresh");
+
+    // 삭제로 빈 자리가 생겨도 요청한 개수를 채울 수 있도록 여유를 둔다.
+    private static final int CAPACITY = 32;
+    private static final int MASK = CAPACITY - 1;
+
+    private final HobbyRepository hobbyRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AtomicReferenceArray<HobbyResponse> slots = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<HobbyResponse> pending = new ArrayList<>();
+    private final Set<Long> pendingDeletes = new HashSet<>();
+    private volatile boolean ready = false;
+
+    public FreshHobbyRing(HobbyRepository hobbyRepository,
+                          StringRedisTemplate stringRedisTemplate,
+                          RedisMessageListenerContainer redisMessageListenerContainer,
+                          ObjectMapper objectMapper) {
+        this.hobbyRepository = hobbyRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        redisMessageListenerContainer.addMessageListener(this, FRESH_TOPIC);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        List<HobbyResponse> loaded = hobbyRepository.findFreshHobbyResponses(CAPACITY);
+        synchronized (this) {
+            TreeMap<Long, HobbyResponse> latest = new TreeMap<>();
+            for (HobbyResponse hobby : loaded) {
+                latest.put(hobby.getId(), hobby);
+            }
+            for (HobbyResponse hobby : pending) {
+                latest.put(hobby.getId(), hobby);
+            }
+            pendingDeletes.forEach(latest::remove);
+            pending.clear();
+            pendingDeletes.clear();
+            while (latest.size() > CAPACITY) {
+                latest.pollFirstEntry();
+            }
+            for (HobbyResponse hobby : latest.values()) {
+                append(hobby);
+            }
+            ready = true;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 가장 최근 것부터 size 개
+    public List<HobbyResponse> latest(int size) {
+        long head = sequence.get();
+        List<HobbyResponse> responses = new ArrayList<>(size);
+        Set<Long> seen = new HashSet<>();
+        for (long seq = head - 1; seq >= 0 && seq >= head - CAPACITY && responses.size() < size; seq--) {
+            HobbyResponse hobby = slots.get((int) (seq & MASK));
+            if (hobby != null && seen.add(hobby.getId())) responses.add(hobby);
+        }
+        return responses;
+    }
+
+    // 생성한 노드에서 호출한다. 커밋 후 로컬에 추가하고 다른 노드에 알린다.
+    public void publish(HobbyResponse hobby) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(hobby);
+                }
+            });
+            return;
+        }
+        publishNow(hobby);
+    }
+
+    private void publishNow(HobbyResponse hobby) {
+        add(hobby);
+        try {
+            stringRedisTemplate.convertAndSend(FRESH_TOPIC.getTopic(), objectMapper.writeValueAsString(hobby));
+        } catch (IOException e) {
+            log.warn("fresh hobby broadcast failed: {}", hobby.getId(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            add(objectMapper.readValue(message.getBody(), HobbyResponse.class));
+        } catch (IOException e) {
+            log.warn("invalid fresh hobby message: {}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+        }
+    }
+
+    @Override
+    public void hobbyDeleted(Long hobbyId) {
+        if (!ready) {
+            synchronized (this) {
+                if (!ready) {
+                    pending.removeIf(hobby -> hobbyId.equals(hobby.getId()));
+                    pendingDeletes.add(hobbyId);
+                    return;
+                }
+            }
+        }
+        // 같은 자리가 refresh 로 교체되었거나 새 소모임에 덮였을 수 있으므로 읽은 값일 때만 비운다.
+        for (int i = 0; i < CAPACITY; i++) {
+            HobbyResponse hobby = slots.get(i);
+            while (hobby != null && hobbyId.equals(hobby.getId()) && !slots.compareAndSet(i, hobby, null)) {
+                hobby = slots.get(i);
+            }
+        }
+    }
+
+    // 담겨 있지 않은 소모임이면 행을 읽지 않는다.
+    @Override
+    public void hobbyUpdated(HobbySnapshot hobby) {
+        int index = indexOf(hobby.getHobbyId());
+        if (index < 0) return;
+        HobbyResponse current = slots.get(index);
+        hobby.get().ifPresent(response -> slots.compareAndSet(index, current, response));
+    }
+
+    // 자신이 발행한 메시지는 이미 추가되어 있다.
+    private void add(HobbyResponse hobby) {
+        if (!ready) {
+            synchronized (this) {
+                if (!ready) {
+                    pending.add(hobby);
+                    return;
+                }
+            }
+        }
+        if (indexOf(hobby.getId()) < 0) append(hobby);
+    }
+
+    private void append(HobbyResponse hobby) {
+        long seq = sequence.getAndIncrement();
+        slots.set((int) (seq & MASK), hobby);
+    }
+
+    private int indexOf(Long hobbyId) {
+        for (int i = 0; i < CAPACITY; i++) {
+            HobbyResponse hobby = slots.get(i);
+            if (hobby != null && hobbyId.equals(hobby.getId())) return i;
+        }
+        return -1;
+    }
+}
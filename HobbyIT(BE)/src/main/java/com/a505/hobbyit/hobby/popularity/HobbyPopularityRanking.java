@@ -0,0 +1,126 @@
+package com.a505.hobbyit.hobby.popularity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/*
+시간 감쇠 인기 점수
+- 가입, 게시글 작성, 좋아요, 방명록이 일어날 때마다 "hobby:popularity" sorted set 에 가중치를 더한다.
+- 오래된 활동일수록 덜 반영되도록, 기준 시각 이후 흐른 시간만큼 2^(t / 반감기) 배 키워서 더한다.
+  상대 순서만 의미가 있으므로 기존 점수를 줄이는 대신 새 점수를 키우는 방식이다.
+- 점수가 너무 커지지 않도록 주기적으로 전체에 같은 비율을 곱해 기준 시각을 옮긴다(rebase).
+- 증가와 rebase 모두 Lua 스크립트로 기준 시각과 함께 원자적으로 처리하므로 별도 잠금이 필요 없다.
+ */
+@Slf4j
+@Component
+public class HobbyPopularityRanking {
+
+    private static final String KEY = "hobby:popularity";
+    private static final String EPOCH_KEY = "hobby:popularity:epoch";
+
+    // KEYS[1] = 점수, KEYS[2] = 기준 시각, ARGV = 소모임 id, 가중치, 현재 시각, 반감기(ms)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[3])
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if epoch == nil then
+              epoch = now
+              redis.call('SET', KEYS[2], now)
+            end
+            local boost = tonumber(ARGV[2]) * math.pow(2, (now - epoch) / tonumber(ARGV[4]))
+            redis.call('ZINCRBY', KEYS[1], tostring(boost), ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 점수, KEYS[2] = 기준 시각, ARGV = 현재 시각, 반감기(ms), rebase 주기(ms), 최소 점수
+    private static final RedisScript<Long> REBASE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if epoch == nil or now - epoch < tonumber(ARGV[3]) then
+              return 0
+            end
+            local factor = math.pow(2, -(now - epoch) / tonumber(ARGV[2]))
+            redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', tostring(factor))
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[4])
+            redis.call('SET', KEYS[2], now)
+            return 1
+            """, Long.class);
+
+    private static final double MIN_SCORE = 0.01;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long halfLifeMillis;
+    private final long rebaseMillis;
+
+    public HobbyPopularityRanking(StringRedisTemplate stringRedisTemplate,
+                                  @Value("${hobby.popularity.half-life-hours:72}") long halfLifeHours,
+                                  @Value("${hobby.popularity.rebase-hours:24}") long rebaseHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.halfLifeMillis = halfLifeHours * 60 * 60 * 1000;
+        this.rebaseMillis = rebaseHours * 60 * 60 * 1000;
+    }
+
+    public void record(Long hobbyId, PopularityEvent event) {
+        afterCommit(() -> stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(KEY, EPOCH_KEY),
+                String.valueOf(hobbyId), String.valueOf(event.getWeight()),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMillis)));
+    }
+
+    public void remove(Long hobbyId) {
+        afterCommit(() -> stringRedisTemplate.opsForZSet().remove(KEY, String.valueOf(hobbyId)));
+    }
+
+    public List<Long> topHobbyIds(int size) {
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(KEY, 0, size - 1);
+        if (members == null) return Collections.emptyList();
+        List<Long> ids = new ArrayList<>(members.size());
+        for (String member : members) {
+            ids.add(Long.parseLong(member));
+        }
+        return ids;
+    }
+
+    // 모든 노드에서 실행되지만 스크립트가 기준 시각을 확인하므로 한 번만 반영된다.
+    @Scheduled(fixedDelayString = "${hobby.popularity.rebase-check-interval:3600000}")
+    public void rebase() {
+        Long rebased = stringRedisTemplate.execute(REBASE_SCRIPT, List.of(KEY, EPOCH_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMillis),
+                String.valueOf(rebaseMillis), String.valueOf(MIN_SCORE));
+        if (Long.valueOf(1L).equals(rebased)) {
+            log.info("hobby popularity rebased");
+        }
+    }
+
+    // 점수 반영 실패가 본 요청을 실패시키지 않도록 커밋 이후에 실행하고 예외는 기록만 한다.
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runQuietly(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(task);
+            }
+        });
+    }
+
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("hobby popularity update failed", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.a505.hobbyit.hobby.popularity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PopularityEvent {
+    JOIN(5), ARTICLE(2), LIKE(1), POSTIT(1);
+
+    private final int weight;
+}
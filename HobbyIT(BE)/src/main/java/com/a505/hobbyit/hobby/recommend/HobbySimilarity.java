@@ -0,0 +1,264 @@
+package com.a505.hobbyit.hobby.recommend;
+
+import com.a505.hobbyit.hobby.event.HobbyChangeListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+함께 가입한 회원을 기준으로 한 유사 소모임
+- 두 소모임의 유사도는 공통 회원 수 / sqrt(a 회원 수 * b 회원 수) (회원 집합의 cosine) 이다.
+- 전체 계산은 hobby_member 를 회원 id 순으로 스트리밍하여 int 배열(CSR)로만 인접 리스트를 만들고,
+  소모임마다 "내 회원들이 가입한 다른 소모임"을 세어 상위 K 개만 남긴다. 엔티티는 읽지 않는다.
+- 가입/탈퇴 이벤트가 오면 그 소모임과 해당 회원이 가입한 소모임의 행만 DB 집계로 다시 계산한다.
+  다른 소모임 행의 회원 수 변화는 매일 전체 계산 때 반영된다.
+ */
+@Slf4j
+@Order(2)
+@Component
+public class HobbySimilarity implements HobbyChangeListener {
+
+    private static final String MEMBERSHIP_SQL = """
+            SELECT member_id, hobby_id
+            FROM hobby_member
+            WHERE state = 'ACTIVE'
+            ORDER BY member_id
+            """;
+
+    private static final String OVERLAP_SQL = """
+            SELECT other.hobby_id AS hobby_id,
+                   COUNT(*) AS overlap,
+                   (SELECT COUNT(*) FROM hobby_member x WHERE x.hobby_id = other.hobby_id AND x.state = 'ACTIVE') AS size
+            FROM hobby_member mine
+            JOIN hobby_member other ON other.member_id = mine.member_id
+            WHERE mine.hobby_id = ? AND other.hobby_id <> ?
+              AND mine.state = 'ACTIVE' AND other.state = 'ACTIVE'
+            GROUP BY other.hobby_id
+            """;
+
+    private static final String SIZE_SQL = "SELECT COUNT(*) FROM hobby_member WHERE hobby_id = ? AND state = 'ACTIVE'";
+
+    private static final String MEMBER_HOBBIES_SQL = "SELECT hobby_id FROM hobby_member WHERE member_id = ? AND state = 'ACTIVE'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int size;
+    private final Set<Long> dirtyHobbies = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyMembers = ConcurrentHashMap.newKeySet();
+    private volatile Map<Long, Neighbors> table = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HobbySimilarity(DataSource dataSource,
+                           @Value("${hobby.similarity.size:10}") int size) {
+        this(streamingJdbcTemplate(dataSource), size);
+    }
+
+    HobbySimilarity(JdbcTemplate jdbcTemplate, int size) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.size = size;
+    }
+
+    // MySQL 드라이버가 결과를 한 행씩 스트리밍하도록 한다.
+    private static JdbcTemplate streamingJdbcTemplate(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        return jdbcTemplate;
+    }
+
+    public List<Long> similarHobbyIds(Long hobbyId) {
+        Neighbors neighbors = table.get(hobbyId);
+        if (neighbors == null) return Collections.emptyList();
+        List<Long> ids = new ArrayList<>(neighbors.ids().length);
+        for (long id : neighbors.ids()) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${hobby.similarity.rebuild-cron:0 30 4 * * *}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        // 스트리밍 전에 비워 두어야, 이미 읽은 행에 대한 가입/탈퇴가 계산 도중 들어와도 남아 있다.
+        dirtyHobbies.clear();
+        dirtyMembers.clear();
+        Map<Long, Integer> hobbyIndex = new HashMap<>();
+        IntList memberOffsets = new IntList();
+        IntList memberHobbies = new IntList();
+        long[] lastMember = {Long.MIN_VALUE};
+
+        // 회원 id 순으로 읽으므로 한 회원의 소모임은 연속으로 들어온다.
+        jdbcTemplate.query(MEMBERSHIP_SQL, rs -> {
+            long memberId = rs.getLong(1);
+            if (memberId != lastMember[0]) {
+                memberOffsets.add(memberHobbies.size());
+                lastMember[0] = memberId;
+            }
+            long hobbyId = rs.getLong(2);
+            memberHobbies.add(hobbyIndex.computeIfAbsent(hobbyId, key -> hobbyIndex.size()));
+        });
+        memberOffsets.add(memberHobbies.size());
+
+        int hobbyCount = hobbyIndex.size();
+        long[] hobbyIds = new long[hobbyCount];
+        hobbyIndex.forEach((id, index) -> hobbyIds[index] = id);
+
+        // 소모임 -> 회원 역방향 CSR
+        int[] hobbyOffsets = new int[hobbyCount + 1];
+        for (int i = 0; i < memberHobbies.size(); i++) {
+            hobbyOffsets[memberHobbies.get(i) + 1]++;
+        }
+        for (int h = 0; h < hobbyCount; h++) {
+            hobbyOffsets[h + 1] += hobbyOffsets[h];
+        }
+        int[] hobbyMembers = new int[memberHobbies.size()];
+        int[] cursor = Arrays.copyOf(hobbyOffsets, hobbyCount);
+        for (int m = 0; m + 1 < memberOffsets.size(); m++) {
+            for (int i = memberOffsets.get(m); i < memberOffsets.get(m + 1); i++) {
+                hobbyMembers[cursor[memberHobbies.get(i)]++] = m;
+            }
+        }
+
+        Map<Long, Neighbors> next = new ConcurrentHashMap<>();
+        int[] overlap = new int[hobbyCount];
+        IntList touched = new IntList();
+        for (int a = 0; a < hobbyCount; a++) {
+            for (int i = hobbyOffsets[a]; i < hobbyOffsets[a + 1]; i++) {
+                int m = hobbyMembers[i];
+                for (int j = memberOffsets.get(m); j < memberOffsets.get(m + 1); j++) {
+                    int b = memberHobbies.get(j);
+                    if (b != a && overlap[b]++ == 0) touched.add(b);
+                }
+            }
+
+            TopK top = new TopK(size);
+            int sizeA = hobbyOffsets[a + 1] - hobbyOffsets[a];
+            for (int t = 0; t < touched.size(); t++) {
+                int b = touched.get(t);
+                int sizeB = hobbyOffsets[b + 1] - hobbyOffsets[b];
+                top.offer(hobbyIds[b], cosine(overlap[b], sizeA, sizeB));
+                overlap[b] = 0;
+            }
+            touched.clear();
+            next.put(hobbyIds[a], top.toNeighbors());
+        }
+
+        table = next;
+        log.info("hobby similarity rebuilt: {} hobbies, {} memberships in {}ms",
+                hobbyCount, memberHobbies.size(), System.currentTimeMillis() - start);
+        // 계산 도중 들어온 변경을 새 표에 바로 반영한다.
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${hobby.similarity.refresh-interval:30000}")
+    public synchronized void refresh() {
+        for (Iterator<Long> it = dirtyMembers.iterator(); it.hasNext(); ) {
+            Long memberId = it.next();
+            it.remove();
+            dirtyHobbies.addAll(jdbcTemplate.queryForList(MEMBER_HOBBIES_SQL, Long.class, memberId));
+        }
+        for (Iterator<Long> it = dirtyHobbies.iterator(); it.hasNext(); ) {
+            Long hobbyId = it.next();
+            it.remove();
+            recompute(hobbyId);
+        }
+    }
+
+    @Override
+    public void memberJoined(Long hobbyId, Long memberId) {
+        dirtyHobbies.add(hobbyId);
+        if (memberId != null) dirtyMembers.add(memberId);
+    }
+
+    @Override
+    public void memberLeft(Long hobbyId, Long memberId) {
+        dirtyHobbies.add(hobbyId);
+        if (memberId != null) dirtyMembers.add(memberId);
+    }
+
+    // 다른 소모임 목록에 남은 id 는 조회 시 없는 소모임으로 걸러진다.
+    @Override
+    public void hobbyDeleted(Long hobbyId) {
+        table.remove(hobbyId);
+    }
+
+    private void recompute(Long hobbyId) {
+        Integer sizeA = jdbcTemplate.queryForObject(SIZE_SQL, Integer.class, hobbyId);
+        if (sizeA == null || sizeA == 0) {
+            table.remove(hobbyId);
+            return;
+        }
+        TopK top = new TopK(size);
+        jdbcTemplate.query(OVERLAP_SQL, rs -> {
+            top.offer(rs.getLong("hobby_id"), cosine(rs.getInt("overlap"), sizeA, rs.getInt("size")));
+        }, hobbyId, hobbyId);
+        table.put(hobbyId, top.toNeighbors());
+    }
+
+    private static float cosine(int overlap, int sizeA, int sizeB) {
+        return (float) (overlap / Math.sqrt((double) sizeA * sizeB));
+    }
+
+    private record Neighbors(long[] ids, float[] scores) {
+    }
+
+    // 점수 내림차순으로 정렬된 고정 크기 배열. K 가 작으므로 삽입 정렬로 충분하다.
+    private static final class TopK {
+        private final long[] ids;
+        private final float[] scores;
+        private int count;
+
+        TopK(int k) {
+            this.ids = new long[k];
+            this.scores = new float[k];
+        }
+
+        void offer(long id, float score) {
+            if (ids.length == 0) return;
+            if (count == ids.length && score <= scores[count - 1]) return;
+            int i = count == ids.length ? count - 1 : count++;
+            while (i > 0 && scores[i - 1] < score) {
+                ids[i] = ids[i - 1];
+                scores[i] = scores[i - 1];
+                i--;
+            }
+            ids[i] = id;
+            scores[i] = score;
+        }
+
+        Neighbors toNeighbors() {
+            return new Neighbors(Arrays.copyOf(ids, count), Arrays.copyOf(scores, count));
+        }
+    }
+
+    private static final class IntList {
+        private int[] data = new int[1024];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+
+        int get(int index) {
+            return data[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.a505.hobbyit.hobby.search;
+
+import com.a505.hobbyit.hobby.domain.HobbyRepository;
+import com.a505.hobbyit.hobby.dto.HobbyAutocompleteResponse;
+import com.a505.hobbyit.hobby.dto.HobbyResponse;
+import com.a505.hobbyit.hobby.event.HobbyChangeListener;
+import com.a505.hobbyit.hobby.event.HobbySnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+소모임 이름 자동완성
+- 이름의 각 단어 시작 위치부터를 자모로 분해한 key 로 radix trie 를 만든다. "ㄷ", "드", "등" 모두 "등산" 에 맞는다.
+- 각 노드에 회원 수 상위 K 개를 미리 담아두므로, 조회는 검색어 길이만큼 trie 를 내려가는 것으로 끝난다.
+- trie 는 불변이며, 변경이 있으면 주기적으로 새로 만들어 참조를 한 번에 바꾼다.
+- 기동 시 전체를 읽는 동안 이벤트가 건드린 id 는 스냅샷으로 덮지 않고, 적재가 끝난 뒤 다시 읽는다.
+ */
+@Slf4j
+@Order(1)
+@Component
+public class HobbyAutocomplete implements HobbyChangeListener {
+
+    private static final Comparator<HobbyAutocompleteResponse> RANKING = Comparator
+            .comparingInt(HobbyAutocompleteResponse::getParticipantsNum)
+            .thenComparingLong(HobbyAutocompleteResponse::getId)
+            .reversed();
+
+    private final HobbyRepository hobbyRepository;
+    private final int size;
+    private final Map<Long, HobbyAutocompleteResponse> hobbies = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading = false;
+    private volatile Node root = Node.EMPTY;
+
+    public HobbyAutocomplete(HobbyRepository hobbyRepository,
+                             @Value("${hobby.autocomplete.size:10}") int size) {
+        this.hobbyRepository = hobbyRepository;
+        this.size = size;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        touched.clear();
+        loading = true;
+        try {
+            for (HobbyResponse hobby : hobbyRepository.findHobbyResponses()) {
+                if (!touched.contains(hobby.getId())) {
+                    hobbies.put(hobby.getId(), toSuggestion(hobby));
+                }
+            }
+        } finally {
+            loading = false;
+        }
+        for (Long id : touched) {
+            reload(id);
+        }
+        touched.clear();
+        rebuild();
+    }
+
+    public List<HobbyAutocompleteResponse> suggest(String keyword) {
+        String query = HangulJamo.decompose(keyword.replaceAll("\\s+", ""));
+        if (query.isEmpty()) return Collections.emptyList();
+
+        Node node = root;
+        int pos = 0;
+        while (true) {
+            int length = Math.min(node.label().length(), query.length() - pos);
+            if (!node.label().regionMatches(0, query, pos, length)) return Collections.emptyList();
+            pos += length;
+            if (pos == query.length()) return List.of(node.top());
+
+            int edge = Arrays.binarySearch(node.edges(), query.charAt(pos));
+            if (edge < 0) return Collections.emptyList();
+            node = node.children()[edge];
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hobby.autocomplete.rebuild-interval:1000}")
+    public void rebuildIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public void hobbyDeleted(Long hobbyId) {
+        if (loading) {
+            touched.add(hobbyId);
+        }
+        hobbies.remove(hobbyId);
+        dirty.set(true);
+    }
+
+    @Override
+    public void hobbyUpdated(HobbySnapshot hobby) {
+        if (loading) {
+            touched.add(hobby.getHobbyId());
+        }
+        apply(hobby.getHobbyId(), hobby.get());
+    }
+
+    private void reload(Long hobbyId) {
+        apply(hobbyId, hobbyRepository.findHobbyResponsesByIds(List.of(hobbyId)).stream().findFirst());
+    }
+
+    private void apply(Long hobbyId, Optional<HobbyResponse> hobby) {
+        hobby.ifPresentOrElse(
+                response -> hobbies.put(hobbyId, toSuggestion(response)),
+                () -> hobbies.remove(hobbyId));
+        dirty.set(true);
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Entry> entries = new ArrayList<>();
+        for (HobbyAutocompleteResponse hobby : hobbies.values()) {
+            String name = hobby.getName().trim();
+            for (int i = 0; i < name.length(); i++) {
+                if (i > 0 && !Character.isWhitespace(name.charAt(i - 1))) continue;
+                String key = HangulJamo.decompose(name.substring(i).replaceAll("\\s+", ""));
+                if (!key.isEmpty()) entries.add(new Entry(key, hobby));
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::key));
+        root = entries.isEmpty() ? Node.EMPTY : build(entries, 0, entries.size(), 0);
+        log.debug("hobby autocomplete rebuilt: {} keys in {}ms", entries.size(), System.currentTimeMillis() - start);
+    }
+
+    // entries[from, to) 는 정렬되어 있고 앞의 depth 글자가 같다. 공통 접두어를 label 로 묶는다.
+    private Node build(List<Entry> entries, int from, int to, int depth) {
+        String first = entries.get(from).key();
+        String last = entries.get(to - 1).key();
+        int end = depth;
+        while (end < first.length() && end < last.length() && first.charAt(end) == last.charAt(end)) {
+            end++;
+        }
+
+        List<HobbyAutocompleteResponse> candidates = new ArrayList<>();
+        int i = from;
+        while (i < to && entries.get(i).key().length() == end) {
+            candidates.add(entries.get(i++).hobby());
+        }
+
+        List<Character> edges = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+        while (i < to) {
+            char c = entries.get(i).key().charAt(end);
+            int j = i;
+            while (j < to && entries.get(j).key().charAt(end) == c) {
+                j++;
+            }
+            Node child = build(entries, i, j, end);
+            edges.add(c);
+            children.add(child);
+            candidates.addAll(Arrays.asList(child.top()));
+            i = j;
+        }
+
+        char[] edgeArray = new char[edges.size()];
+        for (int k = 0; k < edgeArray.length; k++) {
+            edgeArray[k] = edges.get(k);
+        }
+        return new Node(first.substring(depth, end), edgeArray, children.toArray(new Node[0]), top(candidates));
+    }
+
+    // 한 소모임이 여러 단어로 같은 노드 아래에 있을 수 있어 id 로 중복을 제거한다.
+    private HobbyAutocompleteResponse[] top(List<HobbyAutocompleteResponse> candidates) {
+        candidates.sort(RANKING);
+        Set<Long> seen = new HashSet<>();
+        List<HobbyAutocompleteResponse> top = new ArrayList<>(size);
+        for (HobbyAutocompleteResponse candidate : candidates) {
+            if (top.size() == size) break;
+            if (seen.add(candidate.getId())) top.add(candidate);
+        }
+        return top.toArray(new HobbyAutocompleteResponse[0]);
+    }
+
+    private static HobbyAutocompleteResponse toSuggestion(HobbyResponse hobby) {
+        return HobbyAutocompleteResponse.builder()
+                .id(hobby.getId())
+                .name(hobby.getName())
+                .participantsNum(hobby.getParticipantsNum())
+                .build();
+    }
+
+    private record Entry(String key, HobbyAutocompleteResponse hobby) {
+    }
+
+    private record Node(String label, char[] edges, Node[] children, HobbyAutocompleteResponse[] top) {
+        static final Node EMPTY = new Node("", new char[0], new Node[0], new HobbyAutocompleteResponse[0]);
+    }
+}
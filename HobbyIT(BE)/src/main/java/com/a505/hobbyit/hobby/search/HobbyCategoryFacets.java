@@ -0,0 +1,119 @@
+package com.a505.hobbyit.hobby.search;
+
+import com.a505.hobbyit.hobby.domain.HobbyRepository;
+import com.a505.hobbyit.hobby.dto.HobbyCategoryResponse;
+import com.a505.hobbyit.hobby.dto.HobbyResponse;
+import com.a505.hobbyit.hobby.event.HobbyChangeListener;
+import com.a505.hobbyit.hobby.event.HobbySnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+카테고리별 소모임 수, 회원 수 집계
+- 기동 시 한 번 읽어 만들고, 이후에는 변경된 소모임의 이전 값과 새 값의 차이만 반영한다.
+- 조회는 메모리의 집계만 읽으므로 요청마다 GROUP BY 가 실행되지 않는다.
+- 기동 시 전체를 읽는 동안 이벤트가 건드린 id 는 스냅샷으로 덮지 않고, 적재가 끝난 뒤 다시 읽는다.
+ */
+@Slf4j
+@Order(3)
+@Component
+public class HobbyCategoryFacets implements HobbyChangeListener {
+
+    private final HobbyRepository hobbyRepository;
+    private final Map<Long, Entry> hobbies = new ConcurrentHashMap<>();
+    private final Map<String, Facet> facets = new ConcurrentHashMap<>();
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading = false;
+
+    public HobbyCategoryFacets(HobbyRepository hobbyRepository) {
+        this.hobbyRepository = hobbyRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        touched.clear();
+        loading = true;
+        try {
+            for (HobbyResponse hobby : hobbyRepository.findHobbyResponses()) {
+                if (!touched.contains(hobby.getId())) {
+                    apply(hobby.getId(), new Entry(hobby.getCategory(), hobby.getParticipantsNum()));
+                }
+            }
+        } finally {
+            loading = false;
+        }
+        for (Long id : touched) {
+            reload(id);
+        }
+        touched.clear();
+        log.info("hobby category facets built: {} categories", facets.size());
+    }
+
+    public List<HobbyCategoryResponse> findAll() {
+        List<HobbyCategoryResponse> responses = new ArrayList<>(facets.size());
+        facets.forEach((category, facet) -> responses.add(HobbyCategoryResponse.builder()
+                .category(category)
+                .hobbyCount(facet.hobbyCount())
+                .memberCount(facet.memberCount())
+                .build()));
+        responses.sort(Comparator.comparingInt(HobbyCategoryResponse::getHobbyCount).reversed()
+                .thenComparing(HobbyCategoryResponse::getCategory));
+        return responses;
+    }
+
+    @Override
+    public void hobbyDeleted(Long hobbyId) {
+        if (loading) {
+            touched.add(hobbyId);
+        }
+        apply(hobbyId, null);
+    }
+
+    @Override
+    public void hobbyUpdated(HobbySnapshot hobby) {
+        if (loading) {
+            touched.add(hobby.getHobbyId());
+        }
+        update(hobby.getHobbyId(), hobby.get());
+    }
+
+    private void reload(Long hobbyId) {
+        update(hobbyId, hobbyRepository.findHobbyResponsesByIds(List.of(hobbyId)).stream().findFirst());
+    }
+
+    private void update(Long hobbyId, Optional<HobbyResponse> hobby) {
+        apply(hobbyId, hobby.map(response -> new Entry(response.getCategory(), response.getParticipantsNum())).orElse(null));
+    }
+
+    // 이전 값을 빼고 새 값을 더한다. entry 가 null 이면 삭제
+    private synchronized void apply(Long hobbyId, Entry entry) {
+        Entry previous = entry == null ? hobbies.remove(hobbyId) : hobbies.put(hobbyId, entry);
+        if (previous != null) {
+            add(previous.category(), -1, -previous.memberCount());
+        }
+        if (entry != null) {
+            add(entry.category(), 1, entry.memberCount());
+        }
+    }
+
+    private void add(String category, int hobbyDelta, long memberDelta) {
+        facets.compute(category, (key, facet) -> {
+            Facet next = facet == null
+                    ? new Facet(hobbyDelta, memberDelta)
+                    : new Facet(facet.hobbyCount() + hobbyDelta, facet.memberCount() + memberDelta);
+            return next.hobbyCount() <= 0 ? null : next;
+        });
+    }
+
+    private record Entry(String category, int memberCount) {
+    }
+
+    private record Facet(int hobbyCount, long memberCount) {
+    }
+}
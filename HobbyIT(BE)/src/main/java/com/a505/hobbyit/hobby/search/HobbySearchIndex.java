@@ -0,0 +1,258 @@
+package com.a505.hobbyit.hobby.search;
+
+import com.a505.hobbyit.hobby.domain.HobbyRepository;
+import com.a505.hobbyit.hobby.dto.HobbyResponse;
+import com.a505.hobbyit.hobby.event.HobbyChangeListener;
+import com.a505.hobbyit.hobby.event.HobbySnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+소모임 검색용 역색인
+- 이름, 카테고리, 소개글을 음절 단위 unigram/bigram 으로 잘라 필드별 posting 에 담는다.
+  한글은 음절 하나가 의미를 많이 담고 있어 bigram 이면 부분 검색에 충분하다.
+- 검색어의 bigram posting 을 교집합하여 후보를 좁히고, 실제 포함 여부를 확인해 LIKE '%kw%' 와 같은 결과를 돌려준다.
+- 결과는 회원 수 내림차순(같으면 최신순)이며, offset + size 만큼만 힙에 유지한다.
+- 기동 시 전체를 읽어 만들고, 이후에는 HobbyChangeNotifier 이벤트로 변경된 소모임만 갱신한다.
+  전체를 읽는 동안 들어온 이벤트의 id 는 모아 두었다가 적재가 끝난 뒤 다시 읽어, 이전 스냅샷이 최신 변경을 덮지 않게 한다.
+- 이벤트 유실에 대비해 주기적으로 전체를 다시 읽어 맞춘다.
+ */
+@Slf4j
+@Order(0)
+@Component
+public class HobbySearchIndex implements HobbyChangeListener {
+
+    public enum Field {
+        NAME, CATEGORY, INTRO
+    }
+
+    private static final Comparator<Document> RANKING = Comparator
+            .comparingInt(Document::memberCount)
+            .thenComparingLong(Document::id);
+
+    private final HobbyRepository hobbyRepository;
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<Field, Map<String, Set<Long>>> postings = new EnumMap<>(Field.class);
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding = false;
+    private volatile boolean ready = false;
+
+    public HobbySearchIndex(HobbyRepository hobbyRepository) {
+        this.hobbyRepository = hobbyRepository;
+        for (Field field : Field.values()) {
+            postings.put(field, new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        long start = System.currentTimeMillis();
+        rebuild();
+        ready = true;
+        log.info("hobby search index built: {} hobbies in {}ms", documents.size(), System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(initialDelayString = "${hobby.search.rebuild-interval:600000}",
+            fixedDelayString = "${hobby.search.rebuild-interval:600000}")
+    public void refresh() {
+        if (!ready) return;
+        long start = System.currentTimeMillis();
+        rebuild();
+        log.debug("hobby search index rebuilt: {} hobbies in {}ms", documents.size(), System.currentTimeMillis() - start);
+    }
+
+    // 스냅샷을 읽는 동안 이벤트가 건드린 id 는 스냅샷 값이 낡았을 수 있으므로 적재 뒤 DB 에서 다시 읽는다.
+    private void rebuild() {
+        touched.clear();
+        rebuilding = true;
+        try {
+            Set<Long> loaded = new HashSet<>();
+            for (HobbyResponse hobby : hobbyRepository.findHobbyResponses()) {
+                loaded.add(hobby.getId());
+                if (!touched.contains(hobby.getId())) {
+                    index(hobby);
+                }
+            }
+            for (Long id : new ArrayList<>(documents.keySet())) {
+                if (!loaded.contains(id) && !touched.contains(id)) {
+                    remove(id);
+                }
+            }
+        } finally {
+            rebuilding = false;
+        }
+        for (Long id : touched) {
+            reload(id);
+        }
+        touched.clear();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Long> search(String keyword, Pageable pageable, Field... fields) {
+        String query = normalize(keyword);
+        Set<Long> candidates = new HashSet<>();
+        if (query.isBlank()) {
+            candidates.addAll(documents.keySet());
+        } else {
+            for (Field field : fields) {
+                candidates.addAll(lookup(field, query));
+            }
+        }
+
+        int limit = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+        PriorityQueue<Document> top = new PriorityQueue<>(RANKING);
+        for (Long id : candidates) {
+            Document document = documents.get(id);
+            if (document == null || !document.matches(query, fields)) continue;
+            top.offer(document);
+            if (top.size() > limit) top.poll();
+        }
+
+        List<Long> ids = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ids.add(top.poll().id());
+        }
+        Collections.reverse(ids);
+        if (pageable.getOffset() >= ids.size()) return Collections.emptyList();
+        return ids.subList((int) pageable.getOffset(), ids.size());
+    }
+
+    @Override
+    public void hobbyDeleted(Long hobbyId) {
+        if (rebuilding) {
+            touched.add(hobbyId);
+        }
+        remove(hobbyId);
+    }
+
+    @Override
+    public void hobbyUpdated(HobbySnapshot hobby) {
+        if (rebuilding) {
+            touched.add(hobby.getHobbyId());
+        }
+        apply(hobby.getHobbyId(), hobby.get());
+    }
+
+    private void reload(Long hobbyId) {
+        apply(hobbyId, hobbyRepository.findHobbyResponsesByIds(List.of(hobbyId)).stream().findFirst());
+    }
+
+    private void apply(Long hobbyId, Optional<HobbyResponse> hobby) {
+        hobby.ifPresentOrElse(this::index, () -> remove(hobbyId));
+    }
+
+    private synchronized void index(HobbyResponse hobby) {
+        Document document = new Document(hobby.getId(), hobby.getParticipantsNum(),
+                normalize(hobby.getName()), normalize(hobby.getCategory()), normalize(hobby.getIntro()));
+        Document previous = documents.put(document.id(), document);
+        if (previous != null) {
+            unlink(previous);
+        }
+        for (Field field : Field.values()) {
+            Map<String, Set<Long>> posting = postings.get(field);
+            for (String token : tokenize(document.text(field))) {
+                posting.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(document.id());
+            }
+        }
+    }
+
+    private synchronized void remove(Long hobbyId) {
+        Document previous = documents.remove(hobbyId);
+        if (previous != null) {
+            unlink(previous);
+        }
+    }
+
+    // 새 문서에서도 쓰이는 token 은 index() 에서 곧바로 다시 추가된다.
+    private void unlink(Document document) {
+        for (Field field : Field.values()) {
+            Map<String, Set<Long>> posting = postings.get(field);
+            for (String token : tokenize(document.text(field))) {
+                posting.computeIfPresent(token, (key, ids) -> {
+                    ids.remove(document.id());
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+
+    private Set<Long> lookup(Field field, String query) {
+        Map<String, Set<Long>> posting = postings.get(field);
+        List<Set<Long>> sets = new ArrayList<>();
+        for (String token : queryTokens(query)) {
+            Set<Long> ids = posting.get(token);
+            if (ids == null) return Collections.emptySet();
+            sets.add(ids);
+        }
+        if (sets.isEmpty()) return Collections.emptySet();
+
+        sets.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(sets.get(0));
+        for (int i = 1; i < sets.size() && !result.isEmpty(); i++) {
+            result.retainAll(sets.get(i));
+        }
+        return result;
+    }
+
+    // 한 글자짜리 단어는 unigram 으로, 나머지는 bigram 으로만 찾는다.
+    private static Set<String> queryTokens(String query) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : query.split("\\s+")) {
+            if (word.length() == 1) {
+                tokens.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : text.split("\\s+")) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    private record Document(long id, int memberCount, String name, String category, String intro) {
+
+        String text(Field field) {
+            return switch (field) {
+                case NAME -> name;
+                case CATEGORY -> category;
+                case INTRO -> intro;
+            };
+        }
+
+        boolean matches(String query, Field... fields) {
+            for (Field field : fields) {
+                if (text(field).contains(query)) return true;
+            }
+            return false;
+        }
+    }
+}
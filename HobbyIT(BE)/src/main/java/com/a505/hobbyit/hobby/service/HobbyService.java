@@ -2,23 +2,35 @@ package com.a505.hobbyit.hobby.service;
 
 import com.a505.hobbyit.hobby.domain.Hobby;
 import com.a505.hobbyit.hobby.dto.*;
+import com.a505.hobbyit.hobbymember.enums.HobbyMemberPrivilege;
+import com.a505.hobbyit.member.context.MemberContext;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface HobbyService {
-    public void save(String memberId, final MultipartFile file, final HobbyRequest requestDto);
-    public HobbyAndMemberResponse findById(String memberId, Long hobbyId);
+    public void save(MemberContext memberContext, final MultipartFile file, final HobbyRequest requestDto);
+    public HobbyAndMemberResponse findById(MemberContext memberContext, Long hobbyId);
     public List<HobbyResponse> findAll();
+    public Slice<HobbyResponse> findSlice(Long storedId, Pageable pageable);
+    public void export(OutputStream out) throws IOException;
     public List<HobbyResponse> searchByName(String keyword, Pageable pageale);
     public List<HobbyResponse> searchByCategory(String keyword, Pageable pageable);
+    public List<HobbyResponse> search(String keyword, Pageable pageable);
+    public List<HobbyAutocompleteResponse> autocomplete(String keyword);
+    public List<HobbyCategoryResponse> findCategories();
     public List<HobbyResponse> findPopularHobby();
     public List<HobbyResponse> findFreshHobby();
+    public List<HobbyResponse> findSimilarHobby(Long hobbyId);
     public List<HobbyMemberResponse> findHobbyMembers(Long hobbyId);
-    public void updateHobby(String memberId, Long hobbyId, MultipartFile file, HobbyUpdateRequest request);
-    public void deleteHobby(Long hobbyId, String token);
-    public Hobby checkPrivilege(Long hobbyId, String token);
+    public Slice<HobbyMemberResponse> findHobbyMemberSlice(Long hobbyId, HobbyMemberPrivilege privilege, String nickname, Long storedId, Pageable pageable);
+    public void updateHobby(MemberContext memberContext, Long hobbyId, MultipartFile file, HobbyUpdateRequest request);
+    public void deleteHobby(Long hobbyId, MemberContext memberContext);
+    public Hobby checkPrivilege(Long hobbyId, MemberContext memberContext);
 }
 
 /*
@@ -1,30 +1,51 @@
 package com.a505.hobbyit.hobby.service;
 
 import com.a505.hobbyit.common.file.FileUploader;
+import com.a505.hobbyit.hobby.detail.HobbyDetailCache;
 import com.a505.hobbyit.hobby.domain.Hobby;
 import com.a505.hobbyit.hobby.domain.HobbyRepository;
 import com.a505.hobbyit.hobby.dto.*;
+import com.a505.hobbyit.hobby.event.HobbyChangeNotifier;
 import com.a505.hobbyit.hobby.exception.DuplicatedHobbyException;
 import com.a505.hobbyit.hobby.exception.NoSuchHobbyException;
+import com.a505.hobbyit.hobby.fresh.FreshHobbyRing;
+import com.a505.hobbyit.hobby.popularity.HobbyPopularityRanking;
+import com.a505.hobbyit.hobby.recommend.HobbySimilarity;
+import com.a505.hobbyit.hobby.search.HobbyAutocomplete;
+import com.a505.hobbyit.hobby.search.HobbyCategoryFacets;
+import com.a505.hobbyit.hobby.search.HobbySearchIndex;
 import com.a505.hobbyit.hobbymember.domain.HobbyMember;
 import com.a505.hobbyit.hobbymember.domain.HobbyMemberRepository;
+import com.a505.hobbyit.hobbymember.dto.HobbyMembership;
 import com.a505.hobbyit.hobbymember.enums.HobbyMemberPrivilege;
 import com.a505.hobbyit.hobbymember.enums.HobbyMemberState;
 import com.a505.hobbyit.hobbymember.exception.NoSuchHobbyMemberException;
+import com.a505.hobbyit.hobbymember.roster.HobbyRosterCache;
+import com.a505.hobbyit.member.context.MemberContext;
 import com.a505.hobbyit.member.domain.Member;
 import com.a505.hobbyit.member.domain.MemberRepository;
 import com.a505.hobbyit.member.exception.InvalidedRefreshTokenException;
-import com.a505.hobbyit.member.exception.NoSuchMemberException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -36,10 +57,23 @@ public class HobbyServiceImpl implements HobbyService{
     private final HobbyMemberRepository hobbyMemberRepository;
     private final HobbyRepository hobbyRepository;
     private final FileUploader fileUploader;
+    private final HobbySearchIndex hobbySearchIndex;
+    private final HobbyAutocomplete hobbyAutocomplete;
+    private final HobbyCategoryFacets hobbyCategoryFacets;
+    private final HobbyChangeNotifier hobbyChangeNotifier;
+    private final HobbyPopularityRanking hobbyPopularityRanking;
+    private final HobbySimilarity hobbySimilarity;
+    private final HobbyRosterCache hobbyRosterCache;
+    private final FreshHobbyRing freshHobbyRing;
+    private final HobbyDetailCache hobbyDetailCache;
+    private final ObjectMapper objectMapper;
+
+    private static final int POPULAR_SIZE = 10;
+    private static final int FRESH_SIZE = 10;
 
     @Override
     @Transactional
-    public void save(String memberId, MultipartFile multipartFile, HobbyRequest requestDto) {
+    public void save(MemberContext memberContext, MultipartFile multipartFile, HobbyRequest requestDto) {
         checkDuplicatedHobby(requestDto.getName());
 
         final String domain = requestDto.getName();
@@ -49,7 +83,7 @@ public class HobbyServiceImpl implements HobbyService{
         Hobby hobby = requestDto.toEntity(fileUrl);
         hobbyRepository.save(hobby);
 
-        Member member = readMember(memberId);
+        Member member = readMember(memberContext);
 
         HobbyMember hobbyMember = HobbyMember.builder()
                 .member(member)
@@ -59,88 +93,127 @@ public class HobbyServiceImpl implements HobbyService{
                 .build();
 
         hobbyMemberRepository.save(hobbyMember);
+        hobbyChangeNotifier.hobbyCreated(hobby.getId());
+        freshHobbyRing.publish(new HobbyResponse().of(hobby));
+        hobbyChangeNotifier.memberJoined(hobby.getId(), memberContext.getId());
     }
 
+    // 두 캐시에 모두 있으면 DB 를 읽지 않으므로 트랜잭션을 열지 않는다.
     @Override
-    public HobbyAndMemberResponse findById(String memberId, Long hobbyId) {
-        Member member = readMember(memberId);
-        Hobby hobby = readHobby(hobbyId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HobbyAndMemberResponse findById(MemberContext memberContext, Long hobbyId) {
+        HobbyDetail hobby = hobbyDetailCache.getDetail(hobbyId);
+        HobbyMembership membership = hobbyDetailCache.getMembership(memberContext.getId(), hobbyId);
+        return new HobbyAndMemberResponse().of(hobby, membership);
+    }
 
-        HobbyMember hobbyMember = hobbyMemberRepository
-                .findByMemberAndHobby(member,hobby)
-                .orElseGet(HobbyMember::new);
+    @Override
+    public List<HobbyResponse> findAll() {
+        return hobbyRepository.findHobbyResponses();
+    }
 
-        log.info("========== 결과 DTO 반환==========");
-        return new HobbyAndMemberResponse().of(hobby, hobbyMember);
+    @Override
+    public Slice<HobbyResponse> findSlice(Long storedId, Pageable pageable) {
+        return hobbyRepository.findHobbySlice(storedId, pageable);
     }
 
+    // 전체 목록을 메모리에 올리지 않고 한 행씩 읽어 바로 JSON 으로 쓴다.
     @Override
-    public List<HobbyResponse> findAll() {
-        List<Hobby> hobbies = hobbyRepository.findAll();
-        List<HobbyResponse> responses = new ArrayList<>();
-        for (Hobby hobby : hobbies) {
-            responses.add(new HobbyResponse().of(hobby));
+    public void export(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+             Stream<HobbyResponse> hobbies = hobbyRepository.streamHobbyResponses()) {
+            generator.writeStartArray();
+            Iterator<HobbyResponse> iterator = hobbies.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+            }
+            generator.writeEndArray();
         }
-        return responses;
     }
 
     @Override
     public List<HobbyResponse> searchByName(String keyword, Pageable pageale) {
-        List<Hobby> hobbies = hobbyRepository.findHobbiesByNameContainingOrderByCurrentMemberCountDesc(keyword, pageale);
-        List<HobbyResponse> responses = new ArrayList<>();
-        for (Hobby hobby : hobbies) {
-            responses.add(new HobbyResponse().of(hobby));
+        if (!hobbySearchIndex.isReady()) {
+            return hobbyRepository.findHobbyResponsesByName(keyword, pageale);
         }
-        return responses;
+        return findAllInOrder(hobbySearchIndex.search(keyword, pageale, HobbySearchIndex.Field.NAME));
     }
 
     @Override
     public List<HobbyResponse> searchByCategory(String keyword, Pageable pageable) {
-        List<Hobby> hobbies = hobbyRepository.findHobbiesByCategoryContainingOrderByCurrentMemberCountDesc(keyword, pageable);
-        List<HobbyResponse> responses = new ArrayList<>();
-        for (Hobby hobby : hobbies) {
-            responses.add(new HobbyResponse().of(hobby));
+        if (!hobbySearchIndex.isReady()) {
+            return hobbyRepository.findHobbyResponsesByCategory(keyword, pageable);
         }
-        return responses;
+        return findAllInOrder(hobbySearchIndex.search(keyword, pageable, HobbySearchIndex.Field.CATEGORY));
+    }
+
+    @Override
+    public List<HobbyResponse> search(String keyword, Pageable pageable) {
+        if (!hobbySearchIndex.isReady()) {
+            return hobbyRepository.findHobbyResponsesByKeyword(keyword, pageable);
+        }
+        return findAllInOrder(hobbySearchIndex.search(keyword, pageable, HobbySearchIndex.Field.values()));
+    }
+
+    // 메모리에서만 읽으므로 커넥션을 잡지 않도록 트랜잭션을 열지 않는다.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<HobbyAutocompleteResponse> autocomplete(String keyword) {
+        return hobbyAutocomplete.suggest(keyword);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<HobbyCategoryResponse> findCategories() {
+        return hobbyCategoryFacets.findAll();
     }
 
     @Override
     public List<HobbyResponse> findPopularHobby() {
-        List<Hobby> hobbies = hobbyRepository.findPopularHobby();
-        List<HobbyResponse> responses = new ArrayList<>();
-        for (Hobby hobby : hobbies) {
-            responses.add(new HobbyResponse().of(hobby));
+        List<HobbyResponse> responses = findAllInOrder(hobbyPopularityRanking.topHobbyIds(POPULAR_SIZE));
+        if (responses.size() >= POPULAR_SIZE) return responses;
+
+        // 점수가 쌓이기 전에는 회원 수가 많은 소모임으로 채운다.
+        Set<Long> included = responses.stream().map(HobbyResponse::getId).collect(Collectors.toSet());
+        for (HobbyResponse hobby : hobbyRepository.findLargestHobbyResponses(POPULAR_SIZE)) {
+            if (responses.size() >= POPULAR_SIZE) break;
+            if (included.add(hobby.getId())) responses.add(hobby);
         }
         return responses;
     }
 
     @Override
     public List<HobbyResponse> findFreshHobby() {
-        List<Hobby> hobbies = hobbyRepository.findFreshHobby();
-        List<HobbyResponse> responses = new ArrayList<>();
-        for (Hobby hobby : hobbies) {
-            responses.add(new HobbyResponse().of(hobby));
-        }
-        return responses;
+        if (freshHobbyRing.isReady()) return freshHobbyRing.latest(FRESH_SIZE);
+        return hobbyRepository.findFreshHobbyResponses(FRESH_SIZE);
+    }
+
+    @Override
+    public List<HobbyResponse> findSimilarHobby(Long hobbyId) {
+        return findAllInOrder(hobbySimilarity.similarHobbyIds(hobbyId));
     }
 
     @Override
     public List<HobbyMemberResponse> findHobbyMembers(Long hobbyId) {
-        Hobby hobby = readHobby(hobbyId);
-        List<HobbyMemberResponse> responses = new ArrayList<>();
-        List<HobbyMember> members = hobbyMemberRepository.findByHobbyId(hobby);
+        readHobby(hobbyId);
+        return hobbyMemberRepository.findHobbyMemberResponses(hobbyId);
+    }
 
-        for (HobbyMember member : members) {
-            responses.add(new HobbyMemberResponse().toEntity(member));
+    @Override
+    public Slice<HobbyMemberResponse> findHobbyMemberSlice(Long hobbyId, HobbyMemberPrivilege privilege, String nickname, Long storedId, Pageable pageable) {
+        readHobby(hobbyId);
+        if (storedId == null && privilege == null && nickname == null
+                && hobbyRosterCache.isCacheable(pageable.getPageSize())) {
+            return hobbyRosterCache.getFirstPage(hobbyId,
+                    id -> hobbyMemberRepository.findHobbyMemberSlice(id, null, null, null, pageable));
         }
-
-        return responses;
+        return hobbyMemberRepository.findHobbyMemberSlice(hobbyId, privilege, nickname, storedId, pageable);
     }
 
     @Transactional
     @Override
-    public void updateHobby(String memberId, Long hobbyId, MultipartFile multipartFile, HobbyUpdateRequest request){
-        Hobby hobby = checkPrivilege(hobbyId, memberId);
+    public void updateHobby(MemberContext memberContext, Long hobbyId, MultipartFile multipartFile, HobbyUpdateRequest request){
+        Hobby hobby = checkPrivilege(hobbyId, memberContext);
         String fileUrl = hobby.getImgUrl();
         log.info(hobby.getImgUrl());
         log.info(multipartFile.getName());
@@ -151,17 +224,20 @@ public class HobbyServiceImpl implements HobbyService{
         }
         log.info(request.getIntro() + " & "+ request.getName() + " & " + request.getMax_participants_num());
         hobby.updateHobby(request, fileUrl);
+        hobbyChangeNotifier.hobbyChanged(hobbyId);
     }
     @Transactional
     @Override
-    public void deleteHobby(Long hobbyId, String memberId) {
-        Hobby hobby = checkPrivilege(hobbyId, memberId);
+    public void deleteHobby(Long hobbyId, MemberContext memberContext) {
+        Hobby hobby = checkPrivilege(hobbyId, memberContext);
         hobbyRepository.delete(hobby);
+        hobbyChangeNotifier.hobbyDeleted(hobbyId);
+        hobbyPopularityRanking.remove(hobbyId);
     }
 
     @Override
-    public Hobby checkPrivilege(Long hobbyId, String memberId){
-        Member member = memberRepository.findById(Long.parseLong(memberId)).orElseThrow(NoSuchElementException::new);
+    public Hobby checkPrivilege(Long hobbyId, MemberContext memberContext){
+        Member member = readMember(memberContext);
         Hobby hobby = hobbyRepository.findById(hobbyId).orElseThrow(NoSuchHobbyException::new);
         hobbyMemberRepository
                 .findByMemberAndHobby(member, hobby)
@@ -170,12 +246,25 @@ public class HobbyServiceImpl implements HobbyService{
         return hobby;
     }
 
+    // 색인이 정한 순서대로 응답을 만든다.
+    List<HobbyResponse> findAllInOrder(List<Long> ids){
+        Map<Long, HobbyResponse> hobbies = hobbyRepository.findHobbyResponsesByIds(ids).stream()
+                .collect(Collectors.toMap(HobbyResponse::getId, Function.identity()));
+        List<HobbyResponse> responses = new ArrayList<>();
+        for (Long id : ids) {
+            HobbyResponse hobby = hobbies.get(id);
+            if (hobby != null) responses.add(hobby);
+        }
+        return responses;
+    }
+
     void checkDuplicatedHobby(String name){
         if(hobbyRepository.existsByName(name)) throw new DuplicatedHobbyException("중복된 Hobby 이름입니다.");
     }
 
-    Member readMember(String memberId){
-        return memberRepository.findById(Long.parseLong(memberId)).orElseThrow(()->new NoSuchMemberException("요청하신 회원을 찾을 수 없습니다."));
+    // MemberContext 가 회원 존재를 확인했으므로 조회 없이 참조만 얻는다.
+    Member readMember(MemberContext memberContext){
+        return memberRepository.getReferenceById(memberContext.getId());
     }
     Hobby readHobby(Long hobbyId){
         return hobbyRepository.findById(hobbyId).orElseThrow(()-> new NoSuchHobbyException("요청하신 소모임을 찾을 수 없습니다."));
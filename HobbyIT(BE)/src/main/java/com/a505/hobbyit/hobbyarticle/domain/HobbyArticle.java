@@ -70,10 +70,6 @@ public class HobbyArticle extends BaseEntity {
         this.content = content;
     }
 
-    public void updateHit(){
-        this.hit++;
-    }
-
 
     @OneToMany(mappedBy = "hobbyArticle")
     private List<HobbyArticleComment> hobbyArticleComments = new ArrayList<>();
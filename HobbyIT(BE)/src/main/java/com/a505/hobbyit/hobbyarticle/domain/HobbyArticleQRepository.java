@@ -3,7 +3,6 @@ package com.a505.hobbyit.hobbyarticle.domain;
 import com.a505.hobbyit.hobby.domain.Hobby;
 import com.a505.hobbyit.hobbyarticle.dto.HobbyArticleResponse;
 import com.a505.hobbyit.hobbyarticle.dto.HobbyNoticeResponse;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
@@ -14,6 +13,7 @@ import java.util.List;
 public interface HobbyArticleQRepository {
      Slice<HobbyArticleResponse> findHobbyArticle(Long storedId, Hobby hobby, Pageable pageable);
      Slice<HobbyArticleResponse> searchHobbyArticle(Long storedId, String keyword, Hobby hobby, Pageable pageable);
-     Page<HobbyNoticeResponse> findHobbyNotice(Hobby hobby, Pageable pageable);
-     Page<HobbyNoticeResponse> searchHobbyNotice(Hobby hobby,String keyword, Pageable pageable);
+     Slice<HobbyNoticeResponse> findHobbyNotice(Long storedId, Hobby hobby, Pageable pageable);
+     Slice<HobbyNoticeResponse> searchHobbyNotice(Long storedId, Hobby hobby, String keyword, Pageable pageable);
+     long countHobbyNotice(Long hobbyId);
 }
@@ -4,7 +4,15 @@ import com.a505.hobbyit.hobby.domain.Hobby;
 import com.a505.hobbyit.hobbyarticle.dto.HobbyArticleResponse;
 import com.a505.hobbyit.hobbyarticle.dto.HobbyNoticeResponse;
 import com.a505.hobbyit.hobbyarticle.enums.HobbyArticleCategory;
+import com.a505.hobbyit.hobbyarticlecomment.domain.QHobbyArticleComment;
+import com.a505.hobbyit.hobbyarticleimg.domain.QHobbyArticleImg;
+import com.a505.hobbyit.hobbyarticlelike.domain.QHobbyArticleLike;
+import com.a505.hobbyit.member.domain.QMember;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Wildcard;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +20,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -23,11 +30,17 @@ public class HobbyArticleQRepositoryImpl implements HobbyArticleQRepository{
     private final EntityManager em;
     private final JPAQueryFactory queryFactory;
     QHobbyArticle hobbyArticle = QHobbyArticle.hobbyArticle;
+    QMember member = QMember.member;
+    QHobbyArticleImg hobbyArticleImg = QHobbyArticleImg.hobbyArticleImg;
+    QHobbyArticleLike hobbyArticleLike = QHobbyArticleLike.hobbyArticleLike;
+    QHobbyArticleComment hobbyArticleComment = QHobbyArticleComment.hobbyArticleComment;
 
     @Override
     public Slice<HobbyArticleResponse> findHobbyArticle(Long storedId, Hobby hobby, Pageable pageable) {
-        List<HobbyArticle> result = queryFactory
-                .selectFrom(hobbyArticle)
+        List<HobbyArticleResponse> responses = queryFactory
+                .select(hobbyArticleResponse())
+                .from(hobbyArticle)
+                .join(hobbyArticle.member, member)
                 .where(
                     ltStoreId(storedId), // 첫 번째 페이지에서는 id< 파라미터를 사용하지 않기 때문에 적용시킨다.
                     // hobby가 일치하며
@@ -38,23 +51,15 @@ public class HobbyArticleQRepositoryImpl implements HobbyArticleQRepository{
                 .limit(pageable.getPageSize()+1)
                 .fetch();
 
-
-        List<HobbyArticleResponse> responses = new ArrayList<>();
-        for (HobbyArticle article : result) {
-            log.info("================================");
-            log.info(article.getThumbnailPath());
-            log.info(article.getContent() + " " + article.getId());
-        }
-        for (HobbyArticle article : result) {
-            responses.add(new HobbyArticleResponse().of(article));
-        }
         return checkLastPage(pageable, responses);
     }
 
     @Override
     public Slice<HobbyArticleResponse> searchHobbyArticle(Long storedId, String keyword, Hobby hobby, Pageable pageable) {
-        List<HobbyArticle> result = queryFactory
-                .selectFrom(hobbyArticle)
+        List<HobbyArticleResponse> responses = queryFactory
+                .select(hobbyArticleResponse())
+                .from(hobbyArticle)
+                .join(hobbyArticle.member, member)
                 .where(
                         // no-offset 페이징 처리
                         ltStoreId(storedId),
@@ -67,49 +72,96 @@ public class HobbyArticleQRepositoryImpl implements HobbyArticleQRepository{
                 ).orderBy(hobbyArticle.id.desc())
                 .limit(pageable.getPageSize()+1)
                 .fetch();
-        List<HobbyArticleResponse> responses = new ArrayList<>();
-        for (HobbyArticle article : result) {
-            responses.add(new HobbyArticleResponse().of(article));
-        }
         return checkLastPage(pageable, responses);
     }
 
     @Override
-    public Page<HobbyNoticeResponse> findHobbyNotice(Hobby hobby, Pageable pageable) {
-        List<HobbyArticle> result = queryFactory
-                .selectFrom(hobbyArticle)
+    public Slice<HobbyNoticeResponse> findHobbyNotice(Long storedId, Hobby hobby, Pageable pageable) {
+        List<HobbyNoticeResponse> responses = queryFactory
+                .select(hobbyNoticeResponse())
+                .from(hobbyArticle)
+                .join(hobbyArticle.member, member)
                 .where(
+                        // no-offset 페이징 처리
+                        ltStoreId(storedId),
                         hobbyArticle.hobby.eq(hobby),
                         hobbyArticle.category.eq(HobbyArticleCategory.NOTICE)
                 ).orderBy(hobbyArticle.id.desc())
                 .limit(pageable.getPageSize()+1)
                 .fetch();
 
-        List<HobbyNoticeResponse> responses = new ArrayList<>();
-
-        for (HobbyArticle article : result) responses.add(new HobbyNoticeResponse().of(article));
-
-        return new PageImpl<>(responses);
+        return checkLastPage(pageable, responses);
     }
 
     @Override
-    public Page<HobbyNoticeResponse> searchHobbyNotice(Hobby hobby, String keyword, Pageable pageable) {
-        Page<HobbyArticle> result = new PageImpl<>(queryFactory
-                .selectFrom(hobbyArticle)
+    public Slice<HobbyNoticeResponse> searchHobbyNotice(Long storedId, Hobby hobby, String keyword, Pageable pageable) {
+        List<HobbyNoticeResponse> responses = queryFactory
+                .select(hobbyNoticeResponse())
+                .from(hobbyArticle)
+                .join(hobbyArticle.member, member)
                 .where(
+                        // no-offset 페이징 처리
+                        ltStoreId(storedId),
                         hobbyArticle.hobby.eq(hobby),
                         hobbyArticle.category.eq(HobbyArticleCategory.NOTICE),
                         hobbyArticle.title.contains(keyword)
                 ).orderBy(hobbyArticle.id.desc())
                 .limit(pageable.getPageSize()+1)
-                .fetch());
+                .fetch();
+
+        return checkLastPage(pageable, responses);
+    }
 
-        List<HobbyNoticeResponse> responses = new ArrayList<>();
+    @Override
+    public long countHobbyNotice(Long hobbyId) {
+        Long count = queryFactory
+                .select(Wildcard.count)
+                .from(hobbyArticle)
+                .where(
+                        hobbyArticle.hobby.id.eq(hobbyId),
+                        hobbyArticle.category.eq(HobbyArticleCategory.NOTICE)
+                ).fetchOne();
+        return count == null ? 0 : count;
+    }
 
-        for (HobbyArticle article : result)
-            responses.add(new HobbyNoticeResponse().of(article));
+    private ConstructorExpression<HobbyNoticeResponse> hobbyNoticeResponse() {
+        return Projections.constructor(HobbyNoticeResponse.class,
+                hobbyArticle.id,
+                hobbyArticle.title,
+                hobbyArticle.content,
+                member.nickname,
+                member.imgUrl,
+                hobbyArticle.writedDate,
+                JPAExpressions.select(Wildcard.count)
+                        .from(hobbyArticleLike)
+                        .where(hobbyArticleLike.hobbyArticle.eq(hobbyArticle)),
+                JPAExpressions.select(Wildcard.count)
+                        .from(hobbyArticleComment)
+                        .where(hobbyArticleComment.hobbyArticle.eq(hobbyArticle)));
+    }
 
-        return new PageImpl<>(responses);
+    // 작성자는 join 으로, 썸네일(첫 번째 이미지)과 좋아요, 댓글 수는 상관 서브쿼리로 한 번에 가져온다.
+    private ConstructorExpression<HobbyArticleResponse> hobbyArticleResponse() {
+        QHobbyArticleImg firstImg = new QHobbyArticleImg("firstImg");
+        return Projections.constructor(HobbyArticleResponse.class,
+                hobbyArticle.id,
+                hobbyArticle.title,
+                hobbyArticle.content,
+                member.nickname,
+                member.imgUrl,
+                hobbyArticle.writedDate,
+                JPAExpressions.select(hobbyArticleImg.imgUrl)
+                        .from(hobbyArticleImg)
+                        .where(hobbyArticleImg.id.eq(
+                                JPAExpressions.select(firstImg.id.min())
+                                        .from(firstImg)
+                                        .where(firstImg.hobbyArticle.eq(hobbyArticle)))),
+                JPAExpressions.select(Wildcard.count)
+                        .from(hobbyArticleLike)
+                        .where(hobbyArticleLike.hobbyArticle.eq(hobbyArticle)),
+                JPAExpressions.select(Wildcard.count)
+                        .from(hobbyArticleComment)
+                        .where(hobbyArticleComment.hobbyArticle.eq(hobbyArticle)));
     }
 
     // no-offset 방식 처리하는 메서드
@@ -121,7 +173,7 @@ public class HobbyArticleQRepositoryImpl implements HobbyArticleQRepository{
     }
 
     // 무한 스크롤 방식 처리하는 메서드
-    private Slice<HobbyArticleResponse> checkLastPage(Pageable pageable, List<HobbyArticleResponse> results) {
+    private <T> Slice<T> checkLastPage(Pageable pageable, List<T> results) {
 
         boolean hasNext = false;
 
@@ -28,7 +28,10 @@ public class HobbyArticleDetailResponse {
 
     int likes;
 
-    public HobbyArticleDetailResponse of(HobbyArticle hobbyArticle){
+    int hit;
+
+    // pendingHit: 아직 DB 에 반영되지 않은 조회수 증가분
+    public HobbyArticleDetailResponse of(HobbyArticle hobbyArticle, long pendingHit){
         return HobbyArticleDetailResponse.builder()
                 .title(hobbyArticle.getTitle())
                 .content(hobbyArticle.getContent())
@@ -37,6 +40,7 @@ public class HobbyArticleDetailResponse {
                 .createdAt(hobbyArticle.getWritedDate())
                 .images(hobbyArticle.getImages())
                 .likes(hobbyArticle.getLikeCount())
+                .hit((int) (hobbyArticle.getHit() + pendingHit))
                 .build();
     }
 }
@@ -1,14 +1,11 @@
 package com.a505.hobbyit.hobbyarticle.dto;
 
-import com.a505.hobbyit.hobbyarticle.domain.HobbyArticle;
-import com.a505.hobbyit.hobbyarticleimg.domain.HobbyArticleImg;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 
 @Getter
@@ -33,17 +30,17 @@ public class HobbyArticleResponse {
 
     int commentCount;
 
-    public HobbyArticleResponse of(HobbyArticle hobbyArticle){
-        return HobbyArticleResponse.builder()
-                .id(hobbyArticle.getId())
-                .title(hobbyArticle.getTitle())
-                .content(hobbyArticle.getContent())
-                .author(hobbyArticle.getMember().getNickname())
-                .authorImage(hobbyArticle.getMember().getImgUrl())
-                .createdAt(hobbyArticle.getWritedDate())
-                .thumbnail(hobbyArticle.getThumbnailPath())
-                .likes(hobbyArticle.getLikeCount())
-                .commentCount(hobbyArticle.getCommentCount())
-                .build();
+    // HobbyArticleQRepositoryImpl projection 용. 개수는 count 서브쿼리 결과(Long)로 받는다.
+    public HobbyArticleResponse(Long id, String title, String content, String author, String authorImage,
+                                LocalDateTime createdAt, String thumbnail, Long likes, Long commentCount) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.author = author;
+        this.authorImage = authorImage;
+        this.createdAt = createdAt;
+        this.thumbnail = thumbnail;
+        this.likes = likes.intValue();
+        this.commentCount = commentCount.intValue();
     }
 }
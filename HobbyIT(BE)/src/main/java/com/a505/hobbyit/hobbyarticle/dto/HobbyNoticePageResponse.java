@@ -0,0 +1,30 @@
+package com.a505.hobbyit.hobbyarticle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+// 공지 목록 한 페이지. 다음 페이지는 마지막 공지 id 를 storedId 로 넘겨 조회한다.
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HobbyNoticePageResponse {
+    List<HobbyNoticeResponse> content;
+
+    boolean hasNext;
+
+    long totalCount;
+
+    public HobbyNoticePageResponse of(Slice<HobbyNoticeResponse> slice, long totalCount){
+        return HobbyNoticePageResponse.builder()
+                .content(slice.getContent())
+                .hasNext(slice.hasNext())
+                .totalCount(totalCount)
+                .build();
+    }
+}
@@ -29,6 +29,19 @@ public class HobbyNoticeResponse {
 
     int commentCount;
 
+    // HobbyArticleQRepositoryImpl projection 용. 개수는 count 서브쿼리 결과(Long)로 받는다.
+    public HobbyNoticeResponse(Long id, String title, String content, String author, String authorImage,
+                               LocalDateTime createdAt, Long likes, Long commentCount) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.author = author;
+        this.authorImage = authorImage;
+        this.createdAt = createdAt;
+        this.likes = likes.intValue();
+        this.commentCount = commentCount.intValue();
+    }
+
     public HobbyNoticeResponse of(HobbyArticle hobbyArticle){
         return HobbyNoticeResponse.builder()
                 .id(hobbyArticle.getId())
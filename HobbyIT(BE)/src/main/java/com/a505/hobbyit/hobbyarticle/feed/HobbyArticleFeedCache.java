@@ -0,0 +1,219 @@
+package com.a505.hobbyit.hobbyarticle.feed;
+
+import com.a505.hobbyit.hobby.event.HobbyChangeListener;
+import com.a505.hobbyit.hobbyarticle.dto.HobbyArticleResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+소모임 게시판 첫 페이지 2단 캐시
+- L1 은 노드별 Caffeine, L2 는 노드가 공유하는 Redis 이고 L2 에는 응답을 직접 직렬화한 바이너리로 저장한다.
+- L1 miss 는 Caffeine 이 키별로 한 번만 loader 를 실행하므로, 같은 소모임에 몰린 요청도 노드당 L2 조회(와 DB 조회) 한 번으로 끝난다.
+  다른 노드는 먼저 채워진 L2 를 읽는다.
+- 게시글 작성, 수정, 삭제와 댓글, 좋아요가 커밋되면 L2 를 지우고 "hobby:article:feed:evict" 로 모든 노드의 L1 을 지운다.
+  무효화 직전에 시작한 조회가 이전 값을 다시 넣을 수 있으므로, 두 단계 모두 짧은 만료 시간을 둔다.
+ */
+@Slf4j
+@Order(7)
+@Component
+public class HobbyArticleFeedCache implements HobbyChangeListener, MessageListener {
+
+    public static final ChannelTopic EVICT_TOPIC = new ChannelTopic("hobby:article:feed:evict");
+
+    private static final String KEY_PREFIX = "hobby:article:feed:";
+    private static final byte FORMAT_VERSION = 1;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Long, Slice<HobbyArticleResponse>> cache;
+    private final int pageSize;
+    private final Duration remoteTtl;
+
+    public HobbyArticleFeedCache(StringRedisTemplate stringRedisTemplate,
+                                 RedisMessageListenerContainer redisMessageListenerContainer,
+                                 @Value("${hobby.article-feed-cache.page-size:10}") int pageSize,
+                                 @Value("${hobby.article-feed-cache.maximum-size:1000}") long maximumSize,
+                                 @Value("${hobby.article-feed-cache.expire-after-write:30s}") Duration expireAfterWrite,
+                                 @Value("${hobby.article-feed-cache.remote-ttl:2m}") Duration remoteTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.pageSize = pageSize;
+        this.remoteTtl = remoteTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        redisMessageListenerContainer.addMessageListener(this, EVICT_TOPIC);
+    }
+
+    public boolean isCacheable(int requestedPageSize) {
+        return requestedPageSize == pageSize;
+    }
+
+    public Slice<HobbyArticleResponse> getFirstPage(Long hobbyId, Function<Long, Slice<HobbyArticleResponse>> loader) {
+        return cache.get(hobbyId, id -> {
+            Slice<HobbyArticleResponse> remote = readRemote(id);
+            if (remote != null) return remote;
+            Slice<HobbyArticleResponse> loaded = loader.apply(id);
+            writeRemote(id, loaded);
+            return loaded;
+        });
+    }
+
+    // 트랜잭션 안이면 커밋 후에 지워서, 커밋 전의 목록을 다시 캐시하지 않도록 한다.
+    public void evict(Long hobbyId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(hobbyId);
+                }
+            });
+            return;
+        }
+        evictNow(hobbyId);
+    }
+
+    @Override
+    public void hobbyDeleted(Long hobbyId) {
+        cache.invalidate(hobbyId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private void evictNow(Long hobbyId) {
+        cache.invalidate(hobbyId);
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + hobbyId);
+            stringRedisTemplate.convertAndSend(EVICT_TOPIC.getTopic(), String.valueOf(hobbyId));
+        } catch (RuntimeException e) {
+            log.warn("hobby article feed evict failed: {}", hobbyId, e);
+        }
+    }
+
+    private Slice<HobbyArticleResponse> readRemote(Long hobbyId) {
+        byte[] key = (KEY_PREFIX + hobbyId).getBytes(StandardCharsets.UTF_8);
+        try {
+            byte[] value = stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+            return value == null ? null : decode(value);
+        } catch (RuntimeException | IOException e) {
+            // L2 를 읽지 못하면 DB 에서 다시 읽는다.
+            log.warn("hobby article feed read failed: {}", hobbyId, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(Long hobbyId, Slice<HobbyArticleResponse> slice) {
+        byte[] key = (KEY_PREFIX + hobbyId).getBytes(StandardCharsets.UTF_8);
+        try {
+            byte[] value = encode(slice);
+            stringRedisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                    .set(key, value, Expiration.from(remoteTtl), RedisStringCommands.SetOption.upsert()));
+        } catch (RuntimeException | IOException e) {
+            log.warn("hobby article feed write failed: {}", hobbyId, e);
+        }
+    }
+
+    // version, hasNext, 개수, 게시글별 필드 순서로 기록한다. 문자열은 길이(int) + UTF-8 바이트, null 은 길이 -1.
+    private byte[] encode(Slice<HobbyArticleResponse> slice) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeBoolean(slice.hasNext());
+            out.writeInt(slice.getNumberOfElements());
+            for (HobbyArticleResponse article : slice.getContent()) {
+                out.writeLong(article.getId());
+                writeString(out, article.getTitle());
+                writeString(out, article.getContent());
+                writeString(out, article.getAuthor());
+                writeString(out, article.getAuthorImage());
+                writeDateTime(out, article.getCreatedAt());
+                writeString(out, article.getThumbnail());
+                out.writeInt(article.getLikes());
+                out.writeInt(article.getCommentCount());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private Slice<HobbyArticleResponse> decode(byte[] value) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(value))) {
+            // 형식이 바뀐 이전 값은 없는 것으로 보고 다시 채운다.
+            if (in.readByte() != FORMAT_VERSION) return null;
+            boolean hasNext = in.readBoolean();
+            int size = in.readInt();
+            List<HobbyArticleResponse> content = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                content.add(HobbyArticleResponse.builder()
+                        .id(in.readLong())
+                        .title(readString(in))
+                        .content(readString(in))
+                        .author(readString(in))
+                        .authorImage(readString(in))
+                        .createdAt(readDateTime(in))
+                        .thumbnail(readString(in))
+                        .likes(in.readInt())
+                        .commentCount(in.readInt())
+                        .build());
+            }
+            return new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value == null) return;
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) return null;
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,116 @@
+package com.a505.hobbyit.hobbyarticle.notice;
+
+import com.a505.hobbyit.common.redis.RedisNearCache;
+import com.a505.hobbyit.hobby.event.HobbyChangeListener;
+import com.a505.hobbyit.hobbyarticle.domain.HobbyArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+소모임별 공지 수
+- "hobby:notice:count:<소모임 id>" 키에 공지 수를 두고, 공지 작성/삭제가 커밋되면 INCRBY 로 갱신한다.
+- 값이 없는 소모임은 처음 조회할 때 COUNT 한 번으로 채우고(SET NX EX), 이후 목록 조회는 COUNT 없이 RedisNearCache 로 읽는다.
+- 아직 채워지지 않은 소모임은 증감하지 않으므로, 채워지기 전의 변경이 두 번 반영되지 않는다.
+- COUNT 와 SET 사이에 커밋된 변경은 빠질 수 있으므로 키에 TTL 을 두어 주기적으로 다시 센다.
+ */
+@Slf4j
+@Component
+@Order(6)
+public class HobbyNoticeCounter implements HobbyChangeListener {
+
+    private static final String KEY_PREFIX = "hobby:notice:count:";
+
+    // KEYS[1] = 공지 수, ARGV = 증감. INCRBY 는 남은 TTL 을 유지한다.
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            return redis.call('INCRBY', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisNearCache redisNearCache;
+    private final HobbyArticleRepository hobbyArticleRepository;
+    private final Duration ttl;
+
+    public HobbyNoticeCounter(StringRedisTemplate stringRedisTemplate,
+                              RedisNearCache redisNearCache,
+                              HobbyArticleRepository hobbyArticleRepository,
+                              @Value("${hobby.notice-count.ttl:1h}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisNearCache = redisNearCache;
+        this.hobbyArticleRepository = hobbyArticleRepository;
+        this.ttl = ttl;
+    }
+
+    public long count(Long hobbyId) {
+        String key = KEY_PREFIX + hobbyId;
+        String cached;
+        try {
+            cached = redisNearCache.get(key);
+        } catch (RuntimeException e) {
+            // near cache 연결만 문제일 수 있으므로 일반 연결로 다시 읽고, Redis 자체가 안 될 때만 DB 로 센다.
+            log.warn("hobby notice near cache read failed: {}", e.getMessage());
+            try {
+                cached = stringRedisTemplate.opsForValue().get(key);
+            } catch (RuntimeException unavailable) {
+                log.warn("hobby notice count read failed: {}", unavailable.getMessage());
+                return hobbyArticleRepository.countHobbyNotice(hobbyId);
+            }
+        }
+        if (cached != null) return Long.parseLong(cached);
+
+        long count = hobbyArticleRepository.countHobbyNotice(hobbyId);
+        runQuietly(() -> stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl));
+        return count;
+    }
+
+    public void noticeSaved(Long hobbyId) {
+        afterCommit(() -> increment(hobbyId, 1));
+    }
+
+    public void noticeDeleted(Long hobbyId) {
+        afterCommit(() -> increment(hobbyId, -1));
+    }
+
+    @Override
+    public void hobbyDeleted(Long hobbyId) {
+        runQuietly(() -> stringRedisTemplate.delete(KEY_PREFIX + hobbyId));
+    }
+
+    private void increment(Long hobbyId, long delta) {
+        stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(KEY_PREFIX + hobbyId), String.valueOf(delta));
+    }
+
+    // 공지 수 갱신 실패가 본 요청을 실패시키지 않도록 커밋 이후에 실행하고 예외는 기록만 한다.
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runQuietly(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(task);
+            }
+        });
+    }
+
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("hobby notice count update failed", e);
+        }
+    }
+}
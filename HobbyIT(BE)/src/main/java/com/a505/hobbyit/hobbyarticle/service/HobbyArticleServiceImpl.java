@@ -1,25 +1,31 @@
 package com.a505.hobbyit.hobbyarticle.service;
 
+import com.a505.hobbyit.common.counter.CounterType;
+import com.a505.hobbyit.common.counter.ViewDeduplicator;
 import com.a505.hobbyit.common.file.FileUploader;
 import com.a505.hobbyit.hobby.domain.Hobby;
 import com.a505.hobbyit.hobby.domain.HobbyRepository;
 import com.a505.hobbyit.hobby.exception.NoSuchHobbyException;
+import com.a505.hobbyit.hobby.popularity.HobbyPopularityRanking;
+import com.a505.hobbyit.hobby.popularity.PopularityEvent;
 import com.a505.hobbyit.hobbyarticle.domain.HobbyArticle;
 import com.a505.hobbyit.hobbyarticle.domain.HobbyArticleRepository;
 import com.a505.hobbyit.hobbyarticle.dto.*;
 import com.a505.hobbyit.hobbyarticle.exception.NoSuchHobbyArticleException;
+import com.a505.hobbyit.hobbyarticle.enums.HobbyArticleCategory;
+import com.a505.hobbyit.hobbyarticle.feed.HobbyArticleFeedCache;
+import com.a505.hobbyit.hobbyarticle.notice.HobbyNoticeCounter;
 import com.a505.hobbyit.hobbyarticleimg.domain.HobbyArticleImg;
 import com.a505.hobbyit.hobbyarticleimg.domain.HobbyArticleImgRepository;
 import com.a505.hobbyit.hobbymember.domain.HobbyMember;
 import com.a505.hobbyit.hobbymember.domain.HobbyMemberRepository;
 import com.a505.hobbyit.hobbymember.exception.NoSuchHobbyMemberException;
 import com.a505.hobbyit.hobbymember.exception.UnAuthorizedHobbyMemberException;
+import com.a505.hobbyit.member.context.MemberContext;
 import com.a505.hobbyit.member.domain.Member;
 import com.a505.hobbyit.member.domain.MemberRepository;
-import com.a505.hobbyit.member.exception.NoSuchMemberException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -39,19 +45,26 @@ public class HobbyArticleServiceImpl implements HobbyArticleService{
     private final HobbyArticleImgRepository hobbyArticleImgRepository;
     private final HobbyMemberRepository hobbyMemberRepository;
     private final FileUploader fileUploader;
+    private final HobbyPopularityRanking hobbyPopularityRanking;
+    private final ViewDeduplicator viewDeduplicator;
+    private final HobbyNoticeCounter hobbyNoticeCounter;
+    private final HobbyArticleFeedCache hobbyArticleFeedCache;
 
     @Override
-    public Slice<HobbyArticleResponse> findAll(String memberId, Long storedId, Long hobbyId, Pageable pageable) {
-        Member member = readMember(memberId);
+    public Slice<HobbyArticleResponse> findAll(MemberContext memberContext, Long storedId, Long hobbyId, Pageable pageable) {
+        Member member = readMember(memberContext);
         Hobby hobby = readHobby(hobbyId);
         checkMember(member, hobby);
+        // 대부분의 요청인 첫 페이지만 캐시한다.
+        if (storedId == null && hobbyArticleFeedCache.isCacheable(pageable.getPageSize()))
+            return hobbyArticleFeedCache.getFirstPage(hobbyId, id -> hobbyArticleRepository.findHobbyArticle(null, hobby, pageable));
         return hobbyArticleRepository.findHobbyArticle(storedId, hobby, pageable);
     }
 
     @Transactional
     @Override
-    public void saveArticle(String memberId, Long hobbyId, HobbyArticleRequest hobbyArticleRequest, List<MultipartFile> files) {
-        Member member = readMember(memberId);
+    public void saveArticle(MemberContext memberContext, Long hobbyId, HobbyArticleRequest hobbyArticleRequest, List<MultipartFile> files) {
+        Member member = readMember(memberContext);
         Hobby hobby = readHobby(hobbyId);
         checkMember(member, hobby);
 
@@ -68,56 +81,61 @@ public class HobbyArticleServiceImpl implements HobbyArticleService{
             hobbyArticleImgRepository.save(hobbyArticleImg);
             log.info(hobbyArticleImg.getId()+"");
         }
+        hobbyArticleFeedCache.evict(hobbyId);
+        hobbyPopularityRanking.record(hobbyId, PopularityEvent.ARTICLE);
     }
 
     @Transactional
     @Override
-    public void saveNotice(String memberId, Long hobbyId, HobbyNoticeRequest hobbyNoticeRequest) {
-        Member member = readMember(memberId);
+    public void saveNotice(MemberContext memberContext, Long hobbyId, HobbyNoticeRequest hobbyNoticeRequest) {
+        Member member = readMember(memberContext);
         Hobby hobby = readHobby(hobbyId);
         checkMember(member, hobby);
         HobbyArticle hobbyArticle = hobbyNoticeRequest.toEntity(member, hobby);
         hobbyArticleRepository.save(hobbyArticle);
+        hobbyNoticeCounter.noticeSaved(hobbyId);
     }
 
     @Override
-    public HobbyArticleDetailResponse findById(String memberId, final Long hobbyId, final Long articleId) {
-        Member member = memberRepository.findById(Long.parseLong(memberId)).orElseThrow(NoSuchHobbyMemberException::new);
+    public HobbyArticleDetailResponse findById(MemberContext memberContext, final Long hobbyId, final Long articleId) {
+        Member member = readMember(memberContext);
         Hobby hobby = hobbyRepository.getReferenceById(hobbyId);
         checkMember(member, hobby);
         HobbyArticle hobbyArticle = readHobbyArticle(articleId);
-        hobbyArticle.updateHit();
+        long pendingHit = viewDeduplicator.view(
+                CounterType.HOBBY_ARTICLE_HIT, articleId, ViewDeduplicator.memberViewer(member.getId()));
 
-        return new HobbyArticleDetailResponse().of(hobbyArticle);
+        return new HobbyArticleDetailResponse().of(hobbyArticle, pendingHit);
     }
 
     @Override
-    public Slice<HobbyArticleResponse> findByKeyword(String memberId, Long storedId, String keyword, final Long hobbyId, Pageable pageable) {
-        Member member = readMember(memberId);
+    public Slice<HobbyArticleResponse> findByKeyword(MemberContext memberContext, Long storedId, String keyword, final Long hobbyId, Pageable pageable) {
+        Member member = readMember(memberContext);
         Hobby hobby = readHobby(hobbyId);
         checkMember(member, hobby);
         return hobbyArticleRepository.searchHobbyArticle(storedId,  keyword, hobby, pageable);
     }
 
     @Override
-    public Page<HobbyNoticeResponse> findAllNotice(String memberId, final Long hobbyId, Pageable pageable) {
-        Member member = readMember(memberId);
+    public HobbyNoticePageResponse findAllNotice(MemberContext memberContext, Long storedId, final Long hobbyId, Pageable pageable) {
+        Member member = readMember(memberContext);
         Hobby hobby = readHobby(hobbyId);
         checkMember(member, hobby);
-        return hobbyArticleRepository.findHobbyNotice(hobby, pageable);
+        Slice<HobbyNoticeResponse> notices = hobbyArticleRepository.findHobbyNotice(storedId, hobby, pageable);
+        return new HobbyNoticePageResponse().of(notices, hobbyNoticeCounter.count(hobbyId));
     }
 
     @Override
-    public Page<HobbyNoticeResponse> findNoticeByKeyWord(String memberId, final Long hobbyId, String keyword, Pageable pageable) {
-        Member member = readMember(memberId);
+    public Slice<HobbyNoticeResponse> findNoticeByKeyWord(MemberContext memberContext, Long storedId, final Long hobbyId, String keyword, Pageable pageable) {
+        Member member = readMember(memberContext);
         Hobby hobby = readHobby(hobbyId);
         checkMember(member, hobby);
-        return hobbyArticleRepository.searchHobbyNotice(hobby, keyword, pageable);
+        return hobbyArticleRepository.searchHobbyNotice(storedId, hobby, keyword, pageable);
     }
 
     @Override
-    public HobbyNoticeResponse getNotice(String memberId, Long hobbyId, Long noticeId) {
-        Member member = readMember(memberId);
+    public HobbyNoticeResponse getNotice(MemberContext memberContext, Long hobbyId, Long noticeId) {
+        Member member = readMember(memberContext);
         Hobby hobby = readHobby(hobbyId);
         checkMember(member, hobby);
         HobbyArticle hobbyArticle = readHobbyArticle(noticeId);
@@ -126,22 +144,26 @@ public class HobbyArticleServiceImpl implements HobbyArticleService{
 
     @Transactional
     @Override
-    public void update(String memberId, final Long articleId, HobbyArticleUpdateRequest request) {
+    public void update(MemberContext memberContext, final Long articleId, HobbyArticleUpdateRequest request) {
         HobbyArticle hobbyArticle = readHobbyArticle(articleId);
-        if(hobbyArticle.getMember().getId()!= Long.parseLong(memberId))
+        if(!hobbyArticle.getMember().getId().equals(memberContext.getId()))
             throw new UnAuthorizedHobbyMemberException();
         hobbyArticle.updateTitle(request.getTitle());
         hobbyArticle.updateContent(request.getContent());
+        hobbyArticleFeedCache.evict(hobbyArticle.getHobby().getId());
     }
 
     @Transactional
     @Override
-    public void delete(String memberId,Long hobbyId, Long articleId) {
-        Member member = readMember(memberId);
+    public void delete(MemberContext memberContext,Long hobbyId, Long articleId) {
+        Member member = readMember(memberContext);
         Hobby hobby = readHobby(hobbyId);
         checkMember(member, hobby);
         HobbyArticle hobbyArticle = readHobbyArticle(articleId);
         hobbyArticleRepository.delete(hobbyArticle);
+        hobbyArticleFeedCache.evict(hobbyArticle.getHobby().getId());
+        if (hobbyArticle.getCategory() == HobbyArticleCategory.NOTICE)
+            hobbyNoticeCounter.noticeDeleted(hobbyArticle.getHobby().getId());
     }
 
     public void checkMember(Member member, Hobby hobby){ // 가입된 회원인지 혹은 탈퇴된회원인지 확인을 위한 method
@@ -151,10 +173,8 @@ public class HobbyArticleServiceImpl implements HobbyArticleService{
         hobbyMember.checkMember(); // hobbymember의 현재 상태가 ACTIVE인지 확인
     }
 
-    public Member readMember(String memberId){
-        return memberRepository
-                .findById(Long.parseLong(memberId))
-                .orElseThrow(NoSuchMemberException::new);
+    public Member readMember(MemberContext memberContext){ // MemberContext 가 회원 존재를 확인했으므로 조회 없이 참조만 얻는다.
+        return memberRepository.getReferenceById(memberContext.getId());
     }
 
     public Hobby readHobby(Long hobbyId){
@@ -4,6 +4,7 @@ import com.a505.hobbyit.hobby.exception.NoSuchHobbyException;
 import com.a505.hobbyit.hobbyarticle.domain.HobbyArticle;
 import com.a505.hobbyit.hobbyarticle.domain.HobbyArticleRepository;
 import com.a505.hobbyit.hobbyarticle.exception.NoSuchHobbyArticleException;
+import com.a505.hobbyit.hobbyarticle.feed.HobbyArticleFeedCache;
 import com.a505.hobbyit.hobbyarticlecomment.domain.HobbyArticleComment;
 import com.a505.hobbyit.hobbyarticlecomment.domain.HobbyArticleCommentRepository;
 import com.a505.hobbyit.hobbyarticlecomment.dto.CommentRequest;
@@ -25,6 +26,7 @@ public class HobbyArticleCommentServiceImpl implements HobbyArticleCommentServic
     private final MemberRepository memberRepository;
     private final HobbyArticleCommentRepository hobbyArticleCommentRepository;
     private final HobbyArticleRepository hobbyArticleRepository;
+    private final HobbyArticleFeedCache hobbyArticleFeedCache;
 
     @Override
     public void save(String memberId, Long articleId, CommentRequest request) {
@@ -36,6 +38,7 @@ public class HobbyArticleCommentServiceImpl implements HobbyArticleCommentServic
         HobbyArticleComment hobbyArticleComment = request.toEntity(member, hobbyArticle);
 
         hobbyArticleCommentRepository.save(hobbyArticleComment);
+        hobbyArticleFeedCache.evict(hobbyArticle.getHobby().getId());
     }
 
     @Override
@@ -61,9 +64,14 @@ public class HobbyArticleCommentServiceImpl implements HobbyArticleCommentServic
         comment.updateContent(request.getContent());
     }
 
+    @Transactional
     @Override
     public void deleteComment(Long commentId) {
-        if(!hobbyArticleCommentRepository.existsById(commentId)) throw new NoSuchCommentException("댓글이 존재하지 않습니다.");
-        hobbyArticleCommentRepository.deleteById(commentId);
+        HobbyArticleComment comment = hobbyArticleCommentRepository
+                .findById(commentId)
+                .orElseThrow(() -> new NoSuchCommentException("댓글이 존재하지 않습니다."));
+        Long hobbyId = comment.getHobbyArticle().getHobby().getId();
+        hobbyArticleCommentRepository.delete(comment);
+        hobbyArticleFeedCache.evict(hobbyId);
     }
 }
@@ -1,8 +1,11 @@
 package com.a505.hobbyit.hobbyarticlelike.service;
 
+import com.a505.hobbyit.hobby.popularity.HobbyPopularityRanking;
+import com.a505.hobbyit.hobby.popularity.PopularityEvent;
 import com.a505.hobbyit.hobbyarticle.domain.HobbyArticle;
 import com.a505.hobbyit.hobbyarticle.domain.HobbyArticleRepository;
 import com.a505.hobbyit.hobbyarticle.exception.NoSuchHobbyArticleException;
+import com.a505.hobbyit.hobbyarticle.feed.HobbyArticleFeedCache;
 import com.a505.hobbyit.hobbyarticlelike.domain.HobbyArticleLike;
 import com.a505.hobbyit.hobbyarticlelike.domain.HobbyArticleLikeRepository;
 import com.a505.hobbyit.member.domain.Member;
@@ -20,12 +23,15 @@ public class HobbyArticleLikeServiceImpl implements HobbyArticleLikeService{
     private final HobbyArticleLikeRepository hobbyArticleLikeRepository;
     private final MemberRepository memberRepository;
     private final HobbyArticleRepository hobbyArticleRepository;
+    private final HobbyPopularityRanking hobbyPopularityRanking;
+    private final HobbyArticleFeedCache hobbyArticleFeedCache;
 
     @Transactional
     @Override
     public void like(String memberId, Long articleId) {
         Member member = readMember(memberId);
         HobbyArticle hobbyArticle = readHobbyArticle(articleId);
+        hobbyArticleFeedCache.evict(hobbyArticle.getHobby().getId());
         if(hobbyArticleLikeRepository.existsByMemberAndHobbyArticle(member, hobbyArticle)) {
             hobbyArticleLikeRepository.deleteHobbyArticleLikesByMemberAndHobbyArticle(member, hobbyArticle);
             return;
@@ -35,6 +41,7 @@ public class HobbyArticleLikeServiceImpl implements HobbyArticleLikeService{
                 .hobbyArticle(hobbyArticle)
                 .build();
         hobbyArticleLikeRepository.save(hobbyArticleLike);
+        hobbyPopularityRanking.record(hobbyArticle.getHobby().getId(), PopularityEvent.LIKE);
     }
 
     public Member readMember(String memberId){
@@ -1,14 +1,23 @@
 package com.a505.hobbyit.hobbymember.domain;
 
 import com.a505.hobbyit.article.dto.OwnHobbyResponse;
-import com.a505.hobbyit.hobby.domain.Hobby;
+import com.a505.hobbyit.hobby.dto.HobbyMemberResponse;
+import com.a505.hobbyit.hobbymember.dto.HobbyMembership;
+import com.a505.hobbyit.hobbymember.enums.HobbyMemberPrivilege;
 import com.a505.hobbyit.member.domain.Member;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface HobbyMemberQRepository {
     List<OwnHobbyResponse> getOwnHobbyList(Member member);
     void deleteHobbyMember(Long hobbyMemberId);
 
-    List<HobbyMember> findByHobbyId(Hobby hobby);
+    List<HobbyMemberResponse> findHobbyMemberResponses(Long hobbyId);
+
+    Optional<HobbyMembership> findMembership(Long memberId, Long hobbyId);
+
+    Slice<HobbyMemberResponse> findHobbyMemberSlice(Long hobbyId, HobbyMemberPrivilege privilege, String nickname, Long storedId, Pageable pageable);
 }
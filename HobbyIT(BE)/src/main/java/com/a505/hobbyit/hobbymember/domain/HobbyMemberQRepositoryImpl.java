@@ -1,16 +1,25 @@
 package com.a505.hobbyit.hobbymember.domain;
 
 import com.a505.hobbyit.article.dto.OwnHobbyResponse;
-import com.a505.hobbyit.hobby.domain.Hobby;
+import com.a505.hobbyit.hobby.dto.HobbyMemberResponse;
+import com.a505.hobbyit.hobbymember.dto.HobbyMembership;
 import com.a505.hobbyit.hobbymember.enums.HobbyMemberPrivilege;
 import com.a505.hobbyit.member.domain.Member;
+import com.a505.hobbyit.member.domain.QMember;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Repository
@@ -19,6 +28,7 @@ public class HobbyMemberQRepositoryImpl implements HobbyMemberQRepository {
     private final EntityManager em;
     private final JPAQueryFactory queryFactory;
     QHobbyMember hobbyMember = QHobbyMember.hobbyMember;
+    QMember member = QMember.member;
 
     public List<OwnHobbyResponse> getOwnHobbyList(Member member) {
         List<HobbyMember> hobbyMembers = queryFactory
@@ -41,11 +51,68 @@ public class HobbyMemberQRepositoryImpl implements HobbyMemberQRepository {
         em.flush();
     }
 
+    // 회원을 join 하여 명단에 필요한 컬럼만 한 번에 가져온다.
     @Override
-    public List<HobbyMember> findByHobbyId(Hobby hobby) {
-        return queryFactory.selectFrom(hobbyMember)
-                .where(hobbyMember.hobby.eq(hobby))
-                .orderBy(hobbyMember.privilege.desc(), hobbyMember.member.nickname.asc())
+    public List<HobbyMemberResponse> findHobbyMemberResponses(Long hobbyId) {
+        return queryFactory
+                .select(hobbyMemberResponse())
+                .from(hobbyMember)
+                .join(hobbyMember.member, member)
+                .where(hobbyMember.hobby.id.eq(hobbyId))
+                .orderBy(hobbyMember.privilege.desc(), member.nickname.asc(), hobbyMember.id.asc())
                 .fetch();
     }
+
+    @Override
+    public Optional<HobbyMembership> findMembership(Long memberId, Long hobbyId) {
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(HobbyMembership.class, hobbyMember.id, hobbyMember.privilege))
+                .from(hobbyMember)
+                .where(
+                        hobbyMember.member.id.eq(memberId),
+                        hobbyMember.hobby.id.eq(hobbyId)
+                )
+                .fetchFirst());
+    }
+
+    @Override
+    public Slice<HobbyMemberResponse> findHobbyMemberSlice(Long hobbyId, HobbyMemberPrivilege privilege, String nickname, Long storedId, Pageable pageable) {
+        List<HobbyMemberResponse> responses = queryFactory
+                .select(hobbyMemberResponse())
+                .from(hobbyMember)
+                .join(hobbyMember.member, member)
+                .where(
+                        hobbyMember.hobby.id.eq(hobbyId),
+                        afterCursor(privilege, nickname, storedId)
+                )
+                .orderBy(hobbyMember.privilege.desc(), member.nickname.asc(), hobbyMember.id.asc())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = false;
+        if (responses.size() > pageable.getPageSize()) {
+            hasNext = true;
+            responses.remove(pageable.getPageSize());
+        }
+        return new SliceImpl<>(responses, pageable, hasNext);
+    }
+
+    private ConstructorExpression<HobbyMemberResponse> hobbyMemberResponse() {
+        return Projections.constructor(HobbyMemberResponse.class,
+                hobbyMember.id,
+                member.id,
+                member.nickname,
+                hobbyMember.writedDate,
+                hobbyMember.privilege);
+    }
+
+    // (권한 내림차순, 닉네임, id) 순서에서 이전 페이지의 마지막 회원 다음부터 읽는다.
+    private BooleanExpression afterCursor(HobbyMemberPrivilege privilege, String nickname, Long storedId) {
+        if (privilege == null || nickname == null || storedId == null) {
+            return null;
+        }
+        return hobbyMember.privilege.lt(privilege)
+                .or(hobbyMember.privilege.eq(privilege).and(member.nickname.gt(nickname)))
+                .or(hobbyMember.privilege.eq(privilege).and(member.nickname.eq(nickname)).and(hobbyMember.id.gt(storedId)));
+    }
 }
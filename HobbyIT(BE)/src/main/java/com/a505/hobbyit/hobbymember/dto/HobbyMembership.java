@@ -0,0 +1,15 @@
+package com.a505.hobbyit.hobbymember.dto;
+
+import com.a505.hobbyit.hobbymember.enums.HobbyMemberPrivilege;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원의 소모임 가입 여부와 권한. 가입하지 않았으면 NONE
+@Getter
+@AllArgsConstructor
+public class HobbyMembership {
+    public static final HobbyMembership NONE = new HobbyMembership(null, HobbyMemberPrivilege.GENERAL);
+
+    private Long hobbyMemberId;
+    private HobbyMemberPrivilege privilege;
+}
@@ -0,0 +1,78 @@
+package com.a505.hobbyit.hobbymember.roster;
+
+import com.a505.hobbyit.hobby.dto.HobbyMemberResponse;
+import com.a505.hobbyit.hobby.event.HobbyChangeListener;
+import com.a505.hobbyit.member.context.MemberSnapshotCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/*
+소모임 회원 명단 첫 페이지 캐시
+- 모임 페이지를 열 때마다 읽는 첫 페이지만 소모임 id 로 캐시한다.
+- 가입, 강퇴, 탈퇴, 권한 변경 이벤트를 받으면 모든 노드에서 해당 소모임을 지운다.
+- 명단에 닉네임이 들어가므로, 회원 프로필이 바뀌어 MemberSnapshotCache 가 발행하는 제거 메시지를 받으면
+  그 회원이 담긴 페이지도 지운다.
+ */
+@Component
+public class HobbyRosterCache implements HobbyChangeListener, MessageListener {
+
+    private final Cache<Long, Slice<HobbyMemberResponse>> cache;
+    private final int pageSize;
+
+    public HobbyRosterCache(@Value("${hobby.roster-cache.page-size:20}") int pageSize,
+                            @Value("${hobby.roster-cache.maximum-size:1000}") long maximumSize,
+                            @Value("${hobby.roster-cache.expire-after-write:5m}") Duration expireAfterWrite,
+                            RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.pageSize = pageSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        redisMessageListenerContainer.addMessageListener(this, MemberSnapshotCache.EVICT_TOPIC);
+    }
+
+    public boolean isCacheable(int requestedPageSize) {
+        return requestedPageSize == pageSize;
+    }
+
+    public Slice<HobbyMemberResponse> getFirstPage(Long hobbyId, Function<Long, Slice<HobbyMemberResponse>> loader) {
+        return cache.get(hobbyId, loader);
+    }
+
+    @Override
+    public void hobbyDeleted(Long hobbyId) {
+        cache.invalidate(hobbyId);
+    }
+
+    @Override
+    public void memberJoined(Long hobbyId, Long memberId) {
+        cache.invalidate(hobbyId);
+    }
+
+    @Override
+    public void memberLeft(Long hobbyId, Long memberId) {
+        cache.invalidate(hobbyId);
+    }
+
+    @Override
+    public void memberChanged(Long hobbyId, Long memberId) {
+        cache.invalidate(hobbyId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long memberId = Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8));
+        cache.asMap().values().removeIf(slice -> slice.getContent().stream()
+                .anyMatch(member -> memberId.equals(member.getMember_id())));
+    }
+}
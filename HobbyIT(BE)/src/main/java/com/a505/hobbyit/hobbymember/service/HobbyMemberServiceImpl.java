@@ -2,6 +2,7 @@ package com.a505.hobbyit.hobbymember.service;
 
 import com.a505.hobbyit.hobby.domain.Hobby;
 import com.a505.hobbyit.hobby.domain.HobbyRepository;
+import com.a505.hobbyit.hobby.event.HobbyChangeNotifier;
 import com.a505.hobbyit.hobby.exception.NoSuchHobbyException;
 import com.a505.hobbyit.hobbymember.domain.HobbyMember;
 import com.a505.hobbyit.hobbymember.domain.HobbyMemberRepository;
@@ -25,6 +26,7 @@ public class HobbyMemberServiceImpl implements HobbyMemberService{
     private final MemberRepository memberRepository;
     private final HobbyRepository hobbyRepository;
     private final HobbyMemberRepository hobbyMemberRepository;
+    private final HobbyChangeNotifier hobbyChangeNotifier;
 
     @Transactional
     @Override
@@ -34,6 +36,7 @@ public class HobbyMemberServiceImpl implements HobbyMemberService{
                 .orElseThrow(NoSuchHobbyMemberException::new);
         checkPrivilege(hobbyId, memberId);
         hobbyMember.updatePrivilege(request.getPrivilege());
+        hobbyChangeNotifier.memberChanged(hobbyId, hobbyMember.getMember().getId());
     }
 
     @Transactional
@@ -42,8 +45,12 @@ public class HobbyMemberServiceImpl implements HobbyMemberService{
         checkPrivilege(hobbyId, memberId);
 
         Hobby hobby = hobbyRepository.findById(hobbyId).orElseThrow(NoSuchHobbyException::new);
+        HobbyMember target = hobbyMemberRepository
+                .findById(targetId)
+                .orElseThrow(NoSuchHobbyMemberException::new);
         hobbyMemberRepository.deleteHobbyMember(targetId);
         hobby.updateCnt();
+        hobbyChangeNotifier.memberLeft(hobbyId, target.getMember().getId());
         log.info("===== Member count is " + hobby.getHobbyMembers().size()+"=====");
     }
 
@@ -65,6 +72,7 @@ public class HobbyMemberServiceImpl implements HobbyMemberService{
 
         hobbyMemberRepository.deleteHobbyMember(hobbyMember.getId());
         hobby.updateCnt();
+        hobbyChangeNotifier.memberLeft(hobbyId, member.getId());
     }
 
     @Override
@@ -5,6 +5,8 @@ import com.a505.hobbyit.common.file.FileUploader;
 import com.a505.hobbyit.hobby.domain.Hobby;
 import com.a505.hobbyit.hobby.domain.HobbyRepository;
 import com.a505.hobbyit.hobby.exception.NoSuchHobbyException;
+import com.a505.hobbyit.hobby.popularity.HobbyPopularityRanking;
+import com.a505.hobbyit.hobby.popularity.PopularityEvent;
 import com.a505.hobbyit.hobbymember.domain.HobbyMember;
 import com.a505.hobbyit.hobbymember.domain.HobbyMemberRepository;
 import com.a505.hobbyit.hobbymember.exception.NoSuchHobbyMemberException;
@@ -39,6 +41,7 @@ public class HobbyPostitServiceImpl implements HobbyPostitService {
     private final HobbyMemberRepository hobbyMemberRepository;
     private final HobbyPostitRecordRepository hobbyPostitRecordRepository;
     private final FileUploader fileUploader;
+    private final HobbyPopularityRanking hobbyPopularityRanking;
 
     @Transactional
     @Override
@@ -77,6 +80,7 @@ public class HobbyPostitServiceImpl implements HobbyPostitService {
 
         hobbyPostitRepository.save(hobbyPostit);
         hobbyMember.updatePostitRegDt(curDateTime);
+        hobbyPopularityRanking.record(hobbyId, PopularityEvent.POSTIT);
 
         if (hobbyPostitRecordRepository
                 .findByHobbyAndRegDt(hobby, date)
@@ -2,11 +2,8 @@ package com.a505.hobbyit.jwt;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
@@ -25,7 +22,8 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
     private static final String BEARER_TYPE = "Bearer";
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+    private final TokenEpochStore tokenEpochStore;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -33,14 +31,25 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         // 1. Request Header 에서 JWT 토큰 추출
         String token = resolveToken((HttpServletRequest) request);
 
-        // 2. validateToken 으로 토큰 유효성 검사
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // (추가) Redis 에 해당 accessToken logout 여부 확인
-            String isLogout = stringRedisTemplate.opsForValue().get(token);
-            if (ObjectUtils.isEmpty(isLogout)) {
-                // 토큰이 유효할 경우 토큰에서 Authentication 객체를 가지고 와서 SecurityContext 에 저장
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            // 2. 이미 검증한 토큰이면 서명 검증 없이 캐시된 파싱 결과 사용
+            ParsedToken parsedToken = tokenAuthenticationCache.get(token);
+
+            // 3. 캐시에 없으면 토큰을 한 번만 파싱해서 유효성 검사와 클레임 추출을 함께 처리
+            if (parsedToken == null && (parsedToken = jwtTokenProvider.parseToken(token)) != null) {
+                tokenAuthenticationCache.put(parsedToken);
+            }
+
+            // (추가) 로그아웃 등으로 회원이나 기기의 토큰 epoch 가 올라갔으면 폐기된 토큰
+            if (parsedToken != null && tokenEpochStore.isRevoked(parsedToken)) {
+                tokenAuthenticationCache.evict(token);
+                parsedToken = null;
+            }
+
+            // 4. 토큰이 유효할 경우 Authentication 을 SecurityContext 에, 파싱 결과를 요청 attribute 에 저장
+            if (parsedToken != null) {
+                SecurityContextHolder.getContext().setAuthentication(parsedToken.getAuthentication());
+                request.setAttribute(ParsedToken.ATTRIBUTE, parsedToken);
             }
         }
         chain.doFilter(request, response);
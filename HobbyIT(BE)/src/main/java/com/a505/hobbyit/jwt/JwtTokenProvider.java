@@ -20,6 +20,7 @@ import java.security.Key;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,48 +28,64 @@ import java.util.stream.Collectors;
 public class JwtTokenProvider {
     private static final String EMAIL_KEY = "email";
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String EPOCH_KEY = "ep";
+    private static final String DEVICE_KEY = "dev";
+    private static final String DEVICE_EPOCH_KEY = "dep";
     private static final String BEARER_TYPE = "Bearer";
-    private static final long ACCESS_TOKEN_EXPIRE_TIME = 2 * 60 * 60 * 1000L;              // 2시간
+    static final long ACCESS_TOKEN_EXPIRE_TIME = 2 * 60 * 60 * 1000L;              // 2시간
     //    private static final long ACCESS_TOKEN_EXPIRE_TIME = 3 * 60 * 1000L;              // 3분
 //    private static final long ACCESS_TOKEN_EXPIRE_TIME = 30 * 60 * 1000L;              // 30분
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 7 * 24 * 60 * 60 * 1000L;    // 7일
 
     private final Key key;
+    // 파서는 불변이고 thread-safe 하므로 하나를 만들어 재사용
+    private final JwtParser jwtParser;
+    private final TokenEpochStore tokenEpochStore;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, TokenEpochStore tokenEpochStore) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.tokenEpochStore = tokenEpochStore;
     }
 
     // 유저 정보를 가지고 AccessToken, RefreshToken 을 생성하는 메서드
-    public MemberResponse generateToken(Authentication authentication, Member member, boolean isChangeRT, String rt) {
+    // RefreshToken 은 재발급 때마다 새로 만들고(rotation), 기기 id 를 클레임으로 넣는다.
+    public MemberResponse generateToken(Authentication authentication, Member member, String deviceId) {
         // 권한 가져오기
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
         long now = (new Date()).getTime();
+        // 회원의 현재 토큰 epoch, 이후 epoch 가 올라가면 이 토큰은 폐기된다.
+        long epoch = tokenEpochStore.issueEpoch(member.getId());
+        // 기기 epoch, 이 기기에서 로그아웃하면 이 토큰은 폐기된다.
+        long deviceEpoch = tokenEpochStore.issueDeviceEpoch(member.getId(), deviceId);
         // Access Token 생성
         Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
         String accessToken = Jwts.builder()
                 .setSubject(member.getId().toString())
-                .claim(EMAIL_KEY, authentication.getName())
+                .claim(EMAIL_KEY, member.getEmail())
                 .claim(AUTHORITIES_KEY, authorities)
+                .claim(EPOCH_KEY, epoch)
+                .claim(DEVICE_KEY, deviceId)
+                .claim(DEVICE_EPOCH_KEY, deviceEpoch)
                 .setExpiration(accessTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
-        String refreshToken = rt;
-        if (isChangeRT) {
-            // Refresh Token 생성
-            refreshToken = Jwts.builder()
-                    .setSubject(member.getId().toString())
-                    .claim(EMAIL_KEY, authentication.getName())
-                    .claim(AUTHORITIES_KEY, authorities)
-                    .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
-                    .signWith(key, SignatureAlgorithm.HS256)
-                    .compact();
-        }
+        // Refresh Token 생성
+        String refreshToken = Jwts.builder()
+                .setSubject(member.getId().toString())
+                .claim(EMAIL_KEY, member.getEmail())
+                .claim(AUTHORITIES_KEY, authorities)
+                .claim(EPOCH_KEY, epoch)
+                .claim(DEVICE_KEY, deviceId)
+                .setId(UUID.randomUUID().toString())
+                .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
 
         return MemberResponse.builder()
                 .grantType(BEARER_TYPE)
@@ -82,8 +99,41 @@ public class JwtTokenProvider {
     // JWT 토큰을 복호화하여 토큰에 들어있는 정보를 꺼내는 메서드
     public Authentication getAuthentication(String accessToken) {
         // 토큰 복호화
-        Claims claims = parseClaims(accessToken);
+        return toAuthentication(parseClaims(accessToken));
+    }
 
+    // accessToken 을 한 번만 파싱해서 검증 결과와 클레임을 함께 반환, 유효하지 않으면 null
+    public ParsedToken parseToken(String accessToken) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(accessToken).getBody();
+            Authentication authentication = toAuthentication(claims);
+            // epoch 클레임이 없는 토큰은 epoch 0 으로 취급
+            Number epoch = claims.get(EPOCH_KEY, Number.class);
+            Number deviceEpoch = claims.get(DEVICE_EPOCH_KEY, Number.class);
+            return ParsedToken.builder()
+                    .token(accessToken)
+                    .memberId(claims.getSubject())
+                    .email(claims.get(EMAIL_KEY, String.class))
+                    .authorities(authentication.getAuthorities())
+                    .expiration(claims.getExpiration())
+                    .epoch(epoch == null ? 0L : epoch.longValue())
+                    .deviceId(claims.get(DEVICE_KEY, String.class))
+                    .deviceEpoch(deviceEpoch == null ? 0L : deviceEpoch.longValue())
+                    .authentication(authentication)
+                    .build();
+        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
+            log.info("Invalid JWT Token", e);
+        } catch (ExpiredJwtException e) {
+            log.info("Expired JWT Token", e);
+        } catch (UnsupportedJwtException e) {
+            log.info("Unsupported JWT Token", e);
+        } catch (IllegalArgumentException e) {
+            log.info("JWT claims string is empty.", e);
+        }
+        return null;
+    }
+
+    private Authentication toAuthentication(Claims claims) {
         if (claims.get(AUTHORITIES_KEY) == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
@@ -99,13 +149,11 @@ public class JwtTokenProvider {
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
-
-
     // 토큰 정보를 검증하는 메서드
     public boolean validateToken(String token) {
         log.info(token);
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
@@ -121,34 +169,9 @@ public class JwtTokenProvider {
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
-
-    public Long getExpiration(String accessToken) {
-        String token = accessToken.split(" ")[1];
-        // accessToken 남은 유효시간
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getExpiration();
-        // 현재 시간
-        Long now = new Date().getTime();
-        return (expiration.getTime() - now);
-    }
-
-    public String getUser(String accessToken) {
-        checkLength(accessToken);
-        String token = accessToken.substring(7);
-
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-    public void checkLength(String token){
-        if(token.length() < 7) throw new JwtException("올바르지 않은 토큰 유형입니다.");
-    }
 }
@@ -0,0 +1,34 @@
+package com.a505.hobbyit.jwt;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Date;
+
+/*
+한 번 파싱한 accessToken 의 클레임
+JwtAuthenticationFilter 가 요청 attribute 로 저장하고, 컨트롤러는 @RequestAttribute 로 꺼내 쓴다.
+ */
+@Getter
+@Builder
+public class ParsedToken {
+    public static final String ATTRIBUTE = "parsedToken";
+
+    private final String token;
+    private final String memberId;
+    private final String email;
+    private final Collection<? extends GrantedAuthority> authorities;
+    private final Date expiration;
+    private final long epoch;
+    private final String deviceId;
+    private final long deviceEpoch;
+    private final Authentication authentication;
+
+    // accessToken 남은 유효시간(ms)
+    public long getRemainingMillis() {
+        return expiration.getTime() - System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,133 @@
+package com.a505.hobbyit.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+기기별 Refresh Token 세션 저장소
+- "RT:" + 회원 id 해시에 기기 id -> "만료시각(ms):토큰 해시" 로 저장
+- 저장과 교체(rotation)는 Lua 스크립트로 한 번의 왕복에 원자적으로 처리한다.
+- 회원당 세션 수를 제한하고, 넘치면 가장 먼저 만료되는 세션을 지운다.
+ */
+@Component
+public class RefreshTokenStore {
+
+    public static final String DEFAULT_DEVICE_ID = "default";
+    private static final String KEY_PREFIX = "RT:";
+
+    public static final long ROTATED = 1L;
+    public static final long NOT_FOUND = 0L;
+    public static final long MISMATCH = -1L;
+
+    // KEYS[1] = 세션 해시, ARGV = 기기 id, 만료시각:토큰 해시, 현재 시각, 최대 세션 수
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local key = KEYS[1]
+            if redis.call('TYPE', key).ok ~= 'hash' then
+              redis.call('DEL', key)
+            end
+            local now = tonumber(ARGV[3])
+            local newExp = tonumber(string.match(ARGV[2], '^(%d+):'))
+            local entries = redis.call('HGETALL', key)
+            local live = {}
+            for i = 1, #entries, 2 do
+              local exp = tonumber(string.match(entries[i + 1], '^(%d+):'))
+              if exp == nil or exp <= now then
+                redis.call('HDEL', key, entries[i])
+              elseif entries[i] ~= ARGV[1] then
+                table.insert(live, {entries[i], exp})
+              end
+            end
+            local max = tonumber(ARGV[4])
+            if #live >= max then
+              table.sort(live, function(a, b) return a[2] < b[2] end)
+              for i = 1, #live - max + 1 do
+                redis.call('HDEL', key, live[i][1])
+                live[i][2] = 0
+              end
+            end
+            redis.call('HSET', key, ARGV[1], ARGV[2])
+            for i = 1, #live do
+              if live[i][2] > newExp then newExp = live[i][2] end
+            end
+            redis.call('PEXPIREAT', key, newExp)
+            return #live + 1
+            """, Long.class);
+
+    // KEYS[1] = 세션 해시, ARGV = 기기 id, 기존 토큰 해시, 만료시각:새 토큰 해시, 현재 시각
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local key = KEYS[1]
+            if redis.call('TYPE', key).ok ~= 'hash' then
+              return 0
+            end
+            local current = redis.call('HGET', key, ARGV[1])
+            if not current then
+              return 0
+            end
+            local sep = string.find(current, ':', 1, true)
+            if tonumber(string.sub(current, 1, sep - 1)) <= tonumber(ARGV[4]) then
+              redis.call('HDEL', key, ARGV[1])
+              return 0
+            end
+            if string.sub(current, sep + 1) ~= ARGV[2] then
+              return -1
+            end
+            redis.call('HSET', key, ARGV[1], ARGV[3])
+            local newExp = tonumber(string.match(ARGV[3], '^(%d+):'))
+            local pttl = redis.call('PTTL', key)
+            if pttl < 0 or pttl < newExp - tonumber(ARGV[4]) then
+              redis.call('PEXPIREAT', key, newExp)
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 세션 해시, ARGV = 기기 id (이전 형식의 문자열 키면 통째로 삭제)
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('TYPE', KEYS[1]).ok ~= 'hash' then
+              return redis.call('DEL', KEYS[1])
+            end
+            return redis.call('HDEL', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int maxSessions;
+
+    public RefreshTokenStore(StringRedisTemplate stringRedisTemplate,
+                             @Value("${jwt.session.max-per-member:5}") int maxSessions) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxSessions = maxSessions;
+    }
+
+    // 로그인한 기기의 세션 저장, 같은 기기의 기존 세션은 덮어쓴다.
+    public void save(Long memberId, String deviceId, String refreshToken, long expiresInMillis) {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.execute(SAVE_SCRIPT, List.of(KEY_PREFIX + memberId),
+                deviceId, value(now + expiresInMillis, refreshToken), String.valueOf(now), String.valueOf(maxSessions));
+    }
+
+    // 기존 토큰이 저장된 값과 같을 때만 새 토큰으로 교체, 결과는 ROTATED / NOT_FOUND / MISMATCH
+    public long rotate(Long memberId, String deviceId, String oldRefreshToken, String newRefreshToken, long expiresInMillis) {
+        long now = System.currentTimeMillis();
+        Long result = stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(KEY_PREFIX + memberId),
+                deviceId, TokenAuthenticationCache.hash(oldRefreshToken),
+                value(now + expiresInMillis, newRefreshToken), String.valueOf(now));
+        return result == null ? NOT_FOUND : result;
+    }
+
+    public void remove(Long memberId, String deviceId) {
+        stringRedisTemplate.execute(REMOVE_SCRIPT, List.of(KEY_PREFIX + memberId), deviceId);
+    }
+
+    public void removeAll(Long memberId) {
+        stringRedisTemplate.delete(KEY_PREFIX + memberId);
+    }
+
+    // 토큰 원문 대신 해시만 저장
+    private String value(long expiresAt, String refreshToken) {
+        return expiresAt + ":" + TokenAuthenticationCache.hash(refreshToken);
+    }
+}
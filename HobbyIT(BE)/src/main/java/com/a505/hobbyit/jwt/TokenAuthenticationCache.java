@@ -0,0 +1,68 @@
+package com.a505.hobbyit.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/*
+검증을 마친 accessToken 의 파싱 결과를 토큰 만료 시각까지 보관하는 캐시
+- 키는 토큰 원문이 아닌 SHA-256 해시
+- 폐기 여부는 캐시 적중 시에도 TokenEpochStore 로 확인하므로 로그아웃 시 따로 제거하지 않는다.
+ */
+@Component
+public class TokenAuthenticationCache {
+
+    private final Cache<String, ParsedToken> cache;
+
+    public TokenAuthenticationCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, ParsedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, ParsedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(value.getRemainingMillis(), 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, ParsedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, ParsedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // 캐시된 파싱 결과 반환, 없으면 null
+    public ParsedToken get(String token) {
+        return cache.getIfPresent(hash(token));
+    }
+
+    public void put(ParsedToken parsedToken) {
+        cache.put(hash(parsedToken.getToken()), parsedToken);
+    }
+
+    public void evict(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.a505.hobbyit.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+회원별 토큰 epoch
+- 토큰 발급 시 현재 epoch 를 클레임으로 넣고, 클레임의 epoch 가 현재 epoch 보다 작은 토큰은 폐기된 것으로 본다.
+- 비밀번호 재설정, 탈퇴 시 회원 epoch("token:epoch" hash 의 회원 id 필드)를 올려서 그 회원의 기존 accessToken 을 모두 폐기한다.
+- 로그아웃은 그 기기의 epoch("token:epoch:device" sorted set 의 "회원 id:기기 id", score = Redis 시각(ms))만 올린다.
+  그 기기에서 그 이전에 발급된 accessToken 만 막으면 되므로 accessToken 유효시간이 지난 항목은 올릴 때 함께 지운다.
+- 각 노드는 메모리에 들고 있다가 pub/sub 로 변경을 반영한다.
+  메시지를 놓쳐도 복구되도록 구독이 (다시) 맺어질 때와 주기적으로 두 키만 HSCAN/ZSCAN 해서 맞춘다.
+- 값은 줄어들지 않는다. Redis 가 초기화되어 메모리 값보다 작아지면 메모리 값을 Redis 에 다시 쓰고,
+  올릴 때도 메모리 값보다 크게 올리므로 이미 폐기한 토큰이 되살아나거나 새 토큰이 폐기되지 않는다.
+ */
+@Slf4j
+@Component
+public class TokenEpochStore implements MessageListener, SubscriptionListener {
+
+    public static final ChannelTopic EPOCH_TOPIC = new ChannelTopic("jwt:epoch");
+    static final String KEY = "token:epoch";
+    static final String DEVICE_KEY = "token:epoch:device";
+    private static final int LOAD_BATCH_SIZE = 1000;
+    // Redis 의 기기 epoch 가 메모리보다 먼저 사라지지 않도록 여유를 둔다.
+    private static final long DEVICE_KEY_MARGIN = 10 * 60 * 1000L;
+
+    // KEYS[1] = 회원 epoch hash, ARGV = 회원 id, 이 노드가 아는 epoch
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            local known = tonumber(ARGV[2])
+            if known > current then current = known end
+            current = current + 1
+            redis.call('HSET', KEYS[1], ARGV[1], current)
+            return current
+            """, Long.class);
+
+    // KEYS[1] = 기기 epoch sorted set, ARGV = "회원 id:기기 id", 이 노드가 아는 epoch, 유지 시간(ms)
+    private static final RedisScript<Long> BUMP_DEVICE_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - tonumber(ARGV[3]))
+            local current = tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1]) or '0')
+            local known = tonumber(ARGV[2])
+            if known > current then current = known end
+            if now <= current then now = current + 1 end
+            redis.call('ZADD', KEYS[1], now, ARGV[1])
+            return now
+            """, Long.class);
+
+    // KEYS[1] = 회원 epoch hash, ARGV = 회원 id, epoch 쌍의 나열 (Redis 값이 더 작은 것만 쓴다)
+    private static final RedisScript<Long> REPAIR_SCRIPT = new DefaultRedisScript<>("""
+            local repaired = 0
+            for i = 1, #ARGV, 2 do
+              local current = tonumber(redis.call('HGET', KEYS[1], ARGV[i]) or '0')
+              if current < tonumber(ARGV[i + 1]) then
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+                repaired = repaired + 1
+              end
+            end
+            return repaired
+            """, Long.class);
+
+    // KEYS[1] = 기기 epoch sorted set, ARGV = "회원 id:기기 id", epoch 쌍의 나열 (Redis 값이 더 작은 것만 쓴다)
+    private static final RedisScript<Long> REPAIR_DEVICE_SCRIPT = new DefaultRedisScript<>("""
+            local repaired = 0
+            for i = 1, #ARGV, 2 do
+              local current = tonumber(redis.call('ZSCORE', KEYS[1], ARGV[i]) or '0')
+              if current < tonumber(ARGV[i + 1]) then
+                redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+                repaired = repaired + 1
+              end
+            end
+            return repaired
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+    // 회원 id + ":" + 기기 id -> 기기 epoch, 기기 epoch + accessToken 유효시간에 만료
+    private final Cache<String, Long> deviceEpochs = Caffeine.newBuilder()
+            .expireAfter(new Expiry<String, Long>() {
+                @Override
+                public long expireAfterCreate(String key, Long value, long currentTime) {
+                    long remaining = value + JwtTokenProvider.ACCESS_TOKEN_EXPIRE_TIME - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Long value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, Long value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    // 최초 로딩 전에는 메모리에 없는 회원을 Redis 에서 확인
+    private volatile boolean ready = false;
+
+    public TokenEpochStore(StringRedisTemplate stringRedisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        redisMessageListenerContainer.addMessageListener(this, EPOCH_TOPIC);
+    }
+
+    // 요청마다 호출되는 검증, 로딩이 끝난 뒤에는 메모리만 본다.
+    public boolean isRevoked(ParsedToken token) {
+        Long memberId = Long.valueOf(token.getMemberId());
+        if (token.getEpoch() < currentEpoch(memberId)) {
+            return true;
+        }
+        return token.getDeviceId() != null && token.getDeviceEpoch() < currentDeviceEpoch(memberId, token.getDeviceId());
+    }
+
+    public long currentEpoch(Long memberId) {
+        Long epoch = epochs.get(memberId);
+        if (epoch != null) {
+            return epoch;
+        }
+        if (!ready) {
+            long loaded = loadEpoch(memberId);
+            if (loaded > 0) {
+                epochs.merge(memberId, loaded, Math::max);
+            }
+            return loaded;
+        }
+        return 0L;
+    }
+
+    public long currentDeviceEpoch(Long memberId, String deviceId) {
+        String key = deviceKey(memberId, deviceId);
+        Long epoch = deviceEpochs.getIfPresent(key);
+        if (epoch != null) {
+            return epoch;
+        }
+        if (!ready) {
+            long loaded = loadDeviceEpoch(key);
+            if (loaded > 0) {
+                mergeDeviceEpoch(key, loaded);
+            }
+            return loaded;
+        }
+        return 0L;
+    }
+
+    // 토큰 발급용 조회, 다른 노드의 변경이 아직 전파되지 않았을 수 있으므로 Redis 값을 사용
+    // near cache 는 무효화가 비동기로 오므로 쓰지 않고 항상 Redis 에서 직접 읽는다.
+    // Redis 가 초기화되었어도 다른 노드에서 거부되지 않도록 메모리 값보다 작게 발급하지 않는다.
+    public long issueEpoch(Long memberId) {
+        return Math.max(loadEpoch(memberId), epochs.getOrDefault(memberId, 0L));
+    }
+
+    public long issueDeviceEpoch(Long memberId, String deviceId) {
+        if (deviceId == null) {
+            return 0L;
+        }
+        String key = deviceKey(memberId, deviceId);
+        Long known = deviceEpochs.getIfPresent(key);
+        return Math.max(loadDeviceEpoch(key), known == null ? 0L : known);
+    }
+
+    // epoch 를 올려서 지금까지 발급된 accessToken 을 모두 폐기
+    public void bump(Long memberId) {
+        Long next = stringRedisTemplate.execute(BUMP_SCRIPT, List.of(KEY),
+                String.valueOf(memberId), String.valueOf(epochs.getOrDefault(memberId, 0L)));
+        if (next == null) {
+            return;
+        }
+        epochs.merge(memberId, next, Math::max);
+        stringRedisTemplate.convertAndSend(EPOCH_TOPIC.getTopic(), memberId + ":" + next);
+    }
+
+    // 기기 epoch 를 올려서 그 기기에서 발급된 accessToken 만 폐기
+    public void bumpDevice(Long memberId, String deviceId) {
+        String key = deviceKey(memberId, deviceId);
+        Long known = deviceEpochs.getIfPresent(key);
+        Long next = stringRedisTemplate.execute(BUMP_DEVICE_SCRIPT, List.of(DEVICE_KEY),
+                key, String.valueOf(known == null ? 0L : known),
+                String.valueOf(JwtTokenProvider.ACCESS_TOKEN_EXPIRE_TIME + DEVICE_KEY_MARGIN));
+        if (next == null) {
+            return;
+        }
+        mergeDeviceEpoch(key, next);
+        stringRedisTemplate.convertAndSend(EPOCH_TOPIC.getTopic(), memberId + ":" + next + ":" + deviceId);
+    }
+
+    // "회원 id:epoch" 또는 "회원 id:기기 epoch:기기 id"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 3);
+        if (body.length == 3) {
+            mergeDeviceEpoch(body[0] + ":" + body[2], Long.parseLong(body[1]));
+            return;
+        }
+        epochs.merge(Long.parseLong(body[0]), Long.parseLong(body[1]), Math::max);
+    }
+
+    // 재연결로 구독이 다시 맺어지면 그 사이 놓친 메시지가 있을 수 있으므로 다시 맞춘다.
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (ready) {
+            resync();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        resync();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.epoch.resync-interval:60000}")
+    public void resync() {
+        try {
+            Map<Long, Long> stored = new HashMap<>();
+            HashOperations<String, String, String> hashes = stringRedisTemplate.opsForHash();
+            try (Cursor<Map.Entry<String, String>> cursor = hashes.scan(KEY, scanOptions())) {
+                while (cursor.hasNext()) {
+                    Map.Entry<String, String> entry = cursor.next();
+                    Long memberId = Long.parseLong(entry.getKey());
+                    long epoch = Long.parseLong(entry.getValue());
+                    stored.put(memberId, epoch);
+                    epochs.merge(memberId, epoch, Math::max);
+                }
+            }
+            Map<String, Long> storedDevices = new HashMap<>();
+            try (Cursor<ZSetOperations.TypedTuple<String>> cursor = stringRedisTemplate.opsForZSet().scan(DEVICE_KEY, scanOptions())) {
+                while (cursor.hasNext()) {
+                    ZSetOperations.TypedTuple<String> tuple = cursor.next();
+                    if (tuple.getValue() == null || tuple.getScore() == null) continue;
+                    long epoch = tuple.getScore().longValue();
+                    storedDevices.put(tuple.getValue(), epoch);
+                    mergeDeviceEpoch(tuple.getValue(), epoch);
+                }
+            }
+            long repaired = repair(KEY, REPAIR_SCRIPT, epochs, stored)
+                    + repair(DEVICE_KEY, REPAIR_DEVICE_SCRIPT, deviceEpochs.asMap(), storedDevices);
+            if (!ready) {
+                ready = true;
+                log.info("token epochs loaded for {} members, {} devices", stored.size(), storedDevices.size());
+            }
+            if (repaired > 0) {
+                log.warn("token epochs restored to redis: {}", repaired);
+            }
+        } catch (RuntimeException e) {
+            log.error("token epoch loading failed", e);
+        }
+    }
+
+    // Redis 값이 메모리보다 작으면(초기화, 유실) 메모리 값으로 되돌린다. 모아서 LOAD_BATCH_SIZE 개씩 한 번에 쓴다.
+    private <K> long repair(String key, RedisScript<Long> script, Map<K, Long> known, Map<K, Long> stored) {
+        long repaired = 0;
+        List<String> args = new ArrayList<>();
+        for (Map.Entry<K, Long> entry : known.entrySet()) {
+            Long storedEpoch = stored.get(entry.getKey());
+            if (storedEpoch != null && storedEpoch >= entry.getValue()) continue;
+            args.add(String.valueOf(entry.getKey()));
+            args.add(String.valueOf(entry.getValue()));
+            if (args.size() == LOAD_BATCH_SIZE * 2) {
+                repaired += execute(key, script, args);
+                args.clear();
+            }
+        }
+        if (!args.isEmpty()) {
+            repaired += execute(key, script, args);
+        }
+        return repaired;
+    }
+
+    private long execute(String key, RedisScript<Long> script, List<String> args) {
+        Long result = stringRedisTemplate.execute(script, List.of(key), args.toArray());
+        return result == null ? 0L : result;
+    }
+
+    private static ScanOptions scanOptions() {
+        return ScanOptions.scanOptions().count(LOAD_BATCH_SIZE).build();
+    }
+
+    private void mergeDeviceEpoch(String key, long epoch) {
+        deviceEpochs.asMap().merge(key, epoch, Math::max);
+    }
+
+    private long loadEpoch(Long memberId) {
+        String epoch = stringRedisTemplate.<String, String>opsForHash().get(KEY, String.valueOf(memberId));
+        return epoch == null ? 0L : Long.parseLong(epoch);
+    }
+
+    private long loadDeviceEpoch(String key) {
+        Double epoch = stringRedisTemplate.opsForZSet().score(DEVICE_KEY, key);
+        return epoch == null ? 0L : epoch.longValue();
+    }
+
+    private static String deviceKey(Long memberId, String deviceId) {
+        return memberId + ":" + deviceId;
+    }
+}
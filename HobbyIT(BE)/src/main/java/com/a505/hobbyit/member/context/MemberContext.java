@@ -0,0 +1,16 @@
+package com.a505.hobbyit.member.context;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+인증된 회원의 가벼운 정보
+컨트롤러 파라미터로 선언하면 MemberContextArgumentResolver 가 토큰의 회원 id 와 캐시된 스냅샷으로 채워준다.
+ */
+@Getter
+@AllArgsConstructor
+public class MemberContext {
+    private final Long id;
+    private final String nickname;
+    private final String imgUrl;
+}
@@ -0,0 +1,38 @@
+package com.a505.hobbyit.member.context;
+
+import com.a505.hobbyit.jwt.ParsedToken;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/*
+MemberContext 타입의 컨트롤러 파라미터를 채우는 resolver
+JwtAuthenticationFilter 가 요청 attribute 로 저장한 토큰의 회원 id 로 스냅샷 캐시를 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberContextArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final MemberSnapshotCache memberSnapshotCache;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return MemberContext.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        ParsedToken token = (ParsedToken) webRequest.getAttribute(ParsedToken.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (token == null) {
+            throw new JwtException("올바르지 않은 토큰 유형입니다.");
+        }
+        return memberSnapshotCache.get(Long.valueOf(token.getMemberId()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.a505.hobbyit.member.context;
+
+import com.a505.hobbyit.member.domain.MemberRepository;
+import com.a505.hobbyit.member.exception.NoSuchMemberException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/*
+회원 id, 닉네임, 프로필 이미지 스냅샷 캐시
+- 프로필이 바뀌면 evict 해서 로컬에서 지우고 다른 노드에도 제거 메시지를 발행한다.
+- 스냅샷은 조회한 회원의 존재 확인도 겸하므로 없는 회원이면 NoSuchMemberException
+ */
+@Component
+public class MemberSnapshotCache implements MessageListener {
+
+    public static final ChannelTopic EVICT_TOPIC = new ChannelTopic("member:snapshot:evict");
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Long, MemberContext> cache;
+
+    public MemberSnapshotCache(MemberRepository memberRepository,
+                               StringRedisTemplate stringRedisTemplate,
+                               RedisMessageListenerContainer redisMessageListenerContainer,
+                               @Value("${member.snapshot-cache.maximum-size:10000}") long maximumSize,
+                               @Value("${member.snapshot-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.memberRepository = memberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        redisMessageListenerContainer.addMessageListener(this, EVICT_TOPIC);
+    }
+
+    // 캐시에 없으면 필요한 컬럼만 조회해서 채운다.
+    public MemberContext get(Long memberId) {
+        MemberContext memberContext = cache.get(memberId, id -> memberRepository.findMemberContextById(id).orElse(null));
+        if (memberContext == null) {
+            throw new NoSuchMemberException();
+        }
+        return memberContext;
+    }
+
+    // 트랜잭션 안이면 커밋 후에 지워서, 커밋 전의 값을 다시 캐시하지 않도록 한다.
+    public void evict(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(memberId);
+                }
+            });
+            return;
+        }
+        evictNow(memberId);
+    }
+
+    private void evictNow(Long memberId) {
+        cache.invalidate(memberId);
+        stringRedisTemplate.convertAndSend(EVICT_TOPIC.getTopic(), String.valueOf(memberId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+}
@@ -1,5 +1,6 @@
 package com.a505.hobbyit.member.controller;
 
+import com.a505.hobbyit.jwt.ParsedToken;
 import com.a505.hobbyit.member.dto.request.*;
 import com.a505.hobbyit.member.dto.response.MemberHobbyResponse;
 import com.a505.hobbyit.member.dto.response.MemberPendingResponse;
@@ -57,7 +58,7 @@ public class MemberController {
     }
 
     @GetMapping(value = "/logout")
-    public ResponseEntity<Void> logout(@RequestHeader("Authorization") final String token) {
+    public ResponseEntity<Void> logout(@RequestAttribute(value = ParsedToken.ATTRIBUTE, required = false) final ParsedToken token) {
         memberService.logout(token);
         return ResponseEntity.ok().build();
     }
@@ -73,7 +74,7 @@ public class MemberController {
 
     @GetMapping(value = "/{member-nickname}")
     public ResponseEntity<MypageResponse> findMypage(
-            @RequestHeader("Authorization") final String token,
+            @RequestAttribute(value = ParsedToken.ATTRIBUTE, required = false) final ParsedToken token,
             @PathVariable(value = "member-nickname") final String nickname) {
         MypageResponse response = memberService.findMypage(token, nickname);
         return ResponseEntity.ok(response);
@@ -81,7 +82,7 @@ public class MemberController {
 
     @PutMapping
     public ResponseEntity<Void> updateMember(
-            @RequestHeader("Authorization") final String token,
+            @RequestAttribute(value = ParsedToken.ATTRIBUTE, required = false) final ParsedToken token,
             @RequestPart("request") MemberMypageRequest request,
             @RequestPart("multipartFile") MultipartFile multipartFile) {
         memberService.update(token, request, multipartFile);
@@ -89,7 +90,7 @@ public class MemberController {
     }
 
     @PutMapping(value = "/delete")
-    public ResponseEntity<Void> deleteMember(@RequestHeader("Authorization") final String token) {
+    public ResponseEntity<Void> deleteMember(@RequestAttribute(value = ParsedToken.ATTRIBUTE, required = false) final ParsedToken token) {
         memberService.delete(token);
         memberService.logout(token);
         return ResponseEntity.ok().build();
@@ -97,7 +98,7 @@ public class MemberController {
 
     @GetMapping(value = "/hobby/{member-nickname}")
     public ResponseEntity<List<MemberHobbyResponse>> findMemberHobbies(
-            @RequestHeader("Authorization") final String token,
+            @RequestAttribute(value = ParsedToken.ATTRIBUTE, required = false) final ParsedToken token,
             @PathVariable(value = "member-nickname") final String nickname) {
         List<MemberHobbyResponse> hobbyList = memberService.getHobbyList(token, nickname);
         return ResponseEntity.status(HttpStatus.OK).body(hobbyList);
@@ -105,7 +106,7 @@ public class MemberController {
 
     @GetMapping(value = "/hobby/pending")
     public ResponseEntity<List<MemberPendingResponse>> findMemberPendings(
-            @RequestHeader("Authorization") final String token) {
+            @RequestAttribute(value = ParsedToken.ATTRIBUTE, required = false) final ParsedToken token) {
         List<MemberPendingResponse> pendingList = memberService.getPendingList(token);
         return ResponseEntity.status(HttpStatus.OK).body(pendingList);
     }
@@ -133,7 +134,7 @@ public class MemberController {
         }
 
         // 4. 회원가입된 정보로 로그인을 진행
-        MemberLoginRequest loginRequest = new MemberLoginRequest(account.get(0), account.get(0));
+        MemberLoginRequest loginRequest = new MemberLoginRequest(account.get(0), account.get(0), null);
         MemberResponse response = memberService.login(loginRequest);
 
         return ResponseEntity.ok(response);
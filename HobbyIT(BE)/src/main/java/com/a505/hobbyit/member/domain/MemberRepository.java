@@ -1,7 +1,10 @@
 package com.a505.hobbyit.member.domain;
 
+import com.a505.hobbyit.member.context.MemberContext;
 import com.a505.hobbyit.member.enums.MemberIsSns;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -19,4 +22,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByIdAndNickname(String id, String nickname);
 
     boolean existsByEmailAndIsSns(String email, MemberIsSns aTrue);
+
+    @Query("select new com.a505.hobbyit.member.context.MemberContext(m.id, m.nickname, m.imgUrl) from Member m where m.id = :id")
+    Optional<MemberContext> findMemberContextById(@Param("id") Long id);
 }
@@ -1,10 +1,12 @@
 package com.a505.hobbyit.member.dto.request;
 
+import com.a505.hobbyit.jwt.RefreshTokenStore;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Pattern;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.util.StringUtils;
 
 @Getter
 public class MemberLoginRequest {
@@ -15,13 +17,21 @@ public class MemberLoginRequest {
     @NotEmpty(message = "비밀번호는 필수 입력값입니다.")
     private String password;
 
+    // 로그인한 기기 식별자, 없으면 기본 기기로 취급
+    private String deviceId;
+
     public UsernamePasswordAuthenticationToken toAuthentication() {
         return new UsernamePasswordAuthenticationToken(email, password);
     }
 
+    public String getDeviceId() {
+        return StringUtils.hasText(deviceId) ? deviceId : RefreshTokenStore.DEFAULT_DEVICE_ID;
+    }
+
     @Builder
-    public MemberLoginRequest(String email, String password) {
+    public MemberLoginRequest(String email, String password, String deviceId) {
         this.email = email;
         this.password = password;
+        this.deviceId = deviceId;
     }
 }
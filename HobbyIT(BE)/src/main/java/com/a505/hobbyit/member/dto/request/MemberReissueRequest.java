@@ -1,11 +1,13 @@
 package com.a505.hobbyit.member.dto.request;
 
+import com.a505.hobbyit.jwt.RefreshTokenStore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.util.StringUtils;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,4 +18,11 @@ public class MemberReissueRequest {
     @NotEmpty(message = "refreshToken 을 입력해주세요.")
     private String refreshToken;
 
+    // 기기 id 클레임이 없는 이전 Refresh Token 을 위한 기기 식별자
+    @JsonProperty("deviceId")
+    private String deviceId;
+
+    public String getDeviceId() {
+        return StringUtils.hasText(deviceId) ? deviceId : RefreshTokenStore.DEFAULT_DEVICE_ID;
+    }
 }
@@ -1,5 +1,6 @@
 package com.a505.hobbyit.member.service;
 
+import com.a505.hobbyit.jwt.ParsedToken;
 import com.a505.hobbyit.member.dto.request.*;
 import com.a505.hobbyit.member.dto.response.MemberHobbyResponse;
 import com.a505.hobbyit.member.dto.response.MemberPendingResponse;
@@ -21,19 +22,19 @@ public interface MemberService {
 
     MemberResponse reissue(MemberReissueRequest request);
 
-    void logout(final String token);
+    void logout(final ParsedToken token);
 
     void resetPassword(MemberMailRequest request, String from) throws MessagingException;
 
-    MypageResponse findMypage(final String token, final String nickname);
+    MypageResponse findMypage(final ParsedToken token, final String nickname);
 
-    void update(final String token, MemberMypageRequest request, MultipartFile multipartFile);
+    void update(final ParsedToken token, MemberMypageRequest request, MultipartFile multipartFile);
 
-    void delete(final String token);
+    void delete(final ParsedToken token);
 
-    List<MemberHobbyResponse> getHobbyList(final String token, String nickname);
+    List<MemberHobbyResponse> getHobbyList(final ParsedToken token, String nickname);
 
-    List<MemberPendingResponse> getPendingList(final String token);
+    List<MemberPendingResponse> getPendingList(final ParsedToken token);
 
     String redirectKakao();
 
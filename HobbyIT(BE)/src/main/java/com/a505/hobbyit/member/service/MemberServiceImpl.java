@@ -5,6 +5,7 @@ import com.a505.hobbyit.hobby.domain.Hobby;
 import com.a505.hobbyit.hobby.domain.HobbyRepository;
 import com.a505.hobbyit.hobby.exception.NoSuchHobbyException;
 import com.a505.hobbyit.hobbymember.domain.HobbyMember;
+import com.a505.hobbyit.member.context.MemberSnapshotCache;
 import com.a505.hobbyit.member.domain.Member;
 import com.a505.hobbyit.member.dto.request.*;
 import com.a505.hobbyit.member.dto.response.MemberHobbyResponse;
@@ -14,28 +15,30 @@ import com.a505.hobbyit.member.dto.response.MypageResponse;
 import com.a505.hobbyit.member.enums.MemberIsSns;
 import com.a505.hobbyit.member.enums.MemberPrivilege;
 import com.a505.hobbyit.jwt.JwtTokenProvider;
+import com.a505.hobbyit.jwt.ParsedToken;
+import com.a505.hobbyit.jwt.RefreshTokenStore;
+import com.a505.hobbyit.jwt.TokenEpochStore;
 import com.a505.hobbyit.member.enums.MemberState;
 import com.a505.hobbyit.member.exception.*;
 import com.a505.hobbyit.member.domain.MemberRepository;
 import com.a505.hobbyit.pending.domain.Pending;
+import com.a505.hobbyit.security.MemberAuthenticationProvider;
 import com.a505.hobbyit.security.SecurityUtil;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
+import io.jsonwebtoken.JwtException;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.util.ObjectUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
@@ -43,7 +46,6 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -57,12 +59,14 @@ public class MemberServiceImpl implements MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuthenticationManagerBuilder authenticationManagerBuilder;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final AuthenticationManager authenticationManager;
     private final JavaMailSender javaMailSender;
     private final HobbyRepository hobbyRepository;
     private final SecurityUtil securityUtil;
     private final FileUploader fileUploader;
+    private final TokenEpochStore tokenEpochStore;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MemberSnapshotCache memberSnapshotCache;
 
     @Override
     public void signUp(MemberSignupRequest request) {
@@ -96,6 +100,7 @@ public class MemberServiceImpl implements MemberService {
     public void updateSnsMember(String email, String imgUrl) {
         Member member = memberRepository.findByEmail(email).orElseThrow(NoSuchMemberException::new);
         member.updateSnsMember(imgUrl);
+        memberSnapshotCache.evict(member.getId());
     }
 
     @Transactional
@@ -113,77 +118,68 @@ public class MemberServiceImpl implements MemberService {
             member.updateState(MemberState.ACTIVE, null);
         }
 
-        // 1. Login ID/PW 를 기반으로 Authentication 객체 생성
-        // 이때 authentication 는 인증 여부를 확인하는 authenticated 값이 false
-        UsernamePasswordAuthenticationToken authenticationToken = request.toAuthentication();
+        // 1. 조회한 회원 정보로 비밀번호를 검증하고 Authentication 객체 생성
+        // 조회한 Member 를 넘기면 MemberAuthenticationProvider 가 처리하므로 회원을 다시 조회하지 않는다.
+        Authentication authentication = authenticationManager.authenticate(
+                MemberAuthenticationProvider.unauthenticated(member, request.getPassword()));
 
-        // 2. 실제 검증 (사용자 비밀번호 체크)이 이루어지는 부분
-        // authenticate 매서드가 실행될 때 CustomUserDetailsService 에서 만든 loadUserByUsername 메서드가 실행
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        // 2. 인증 정보를 기반으로 JWT 토큰 생성
+        MemberResponse tokenInfo = jwtTokenProvider.generateToken(authentication, member, request.getDeviceId());
 
-        // 3. 인증 정보를 기반으로 JWT 토큰 생성
-        MemberResponse tokenInfo = jwtTokenProvider.generateToken(authentication, member, true, "");
-
-        // 4. RefreshToken Redis 저장 (expirationTime 설정을 통해 자동 삭제 처리)
-        stringRedisTemplate.opsForValue()
-                .set("RT:" + member.getId(), tokenInfo.getRefreshToken(), tokenInfo.getRefreshTokenExpirationTime(), TimeUnit.MILLISECONDS);
+        // 3. 기기별 RefreshToken 세션 저장 (다른 기기의 세션은 유지)
+        refreshTokenStore.save(member.getId(), request.getDeviceId(),
+                tokenInfo.getRefreshToken(), tokenInfo.getRefreshTokenExpirationTime());
         return tokenInfo;
     }
 
     @Override
     public MemberResponse reissue(MemberReissueRequest request) {
-        // 1. Refresh Token 검증
-        if (!jwtTokenProvider.validateToken(request.getRefreshToken())) {
+        // 1. Refresh Token 검증과 클레임 추출을 한 번에 처리
+        ParsedToken parsedToken = jwtTokenProvider.parseToken(request.getRefreshToken());
+        if (parsedToken == null) {
             throw new InvalidedRefreshTokenException();
         }
 
-        // 2. Refresh Token 에서 Member id 을 가져옵니다.
-        Authentication authentication = jwtTokenProvider.getAuthentication(request.getRefreshToken());
+        // 2. Refresh Token 에서 Member id 와 기기 id 를 가져옵니다.
+        Member member = memberRepository.findById(Long.parseLong(parsedToken.getMemberId())).orElseThrow(NoSuchElementException::new);
+        String deviceId = parsedToken.getDeviceId() != null ? parsedToken.getDeviceId() : request.getDeviceId();
 
-        Member member = memberRepository.findById(Long.parseLong(authentication.getName())).orElseThrow(NoSuchElementException::new);
+        // 3. 새로운 토큰 생성
+        MemberResponse tokenInfo = jwtTokenProvider.generateToken(parsedToken.getAuthentication(), member, deviceId);
 
-        // 3. Redis 에서 Member id 를 기반으로 저장된 Refresh Token 값을 가져옵니다.
-        String refreshToken = stringRedisTemplate.opsForValue().get("RT:" + member.getId());
+        // 4. 저장된 Refresh Token 과 같을 때만 새 Refresh Token 으로 교체 (한 번의 Redis 호출)
+        long result = refreshTokenStore.rotate(member.getId(), deviceId, request.getRefreshToken(),
+                tokenInfo.getRefreshToken(), tokenInfo.getRefreshTokenExpirationTime());
 
         // 로그아웃되어 Redis 에 RefreshToken 이 존재하지 않는 경우 처리
-        if (ObjectUtils.isEmpty(refreshToken)) {
+        if (result == RefreshTokenStore.NOT_FOUND) {
             throw new InvalidedRefreshTokenException("로그아웃 상태입니다.");
         }
-        if (!refreshToken.equals(request.getRefreshToken())) {
+        if (result == RefreshTokenStore.MISMATCH) {
             throw new InvalidedRefreshTokenException("Refresh Token 정보가 일치하지 않습니다.");
         }
 
-        // 4. 새로운 토큰 생성
-        MemberResponse tokenInfo = jwtTokenProvider.generateToken(authentication, member, false, request.getRefreshToken());
-
-        // 5. RefreshToken Redis 업데이트
-        stringRedisTemplate.opsForValue()
-                .set("RT:" + authentication.getName(), tokenInfo.getRefreshToken(), tokenInfo.getRefreshTokenExpirationTime(), TimeUnit.MILLISECONDS);
-
         return tokenInfo;
     }
 
     @Override
-    public void logout(final String token) {
-        String accessToken = token.split(" ")[1];
-
-        // 1. Access Token 검증
-        if (!jwtTokenProvider.validateToken(accessToken)) {
+    public void logout(final ParsedToken token) {
+        // 1. Access Token 검증 (필터에서 검증된 토큰만 요청 attribute 로 전달된다)
+        if (token == null) {
             throw new InvalidedAccessTokenException();
         }
 
-        // 2. Access Token 에서 Member email 을 가져옵니다.
-        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+        // 2. 이 기기의 Refresh Token 세션만 삭제
+        Long memberId = Long.valueOf(token.getMemberId());
+        refreshTokenStore.remove(memberId, token.getDeviceId() != null ? token.getDeviceId() : RefreshTokenStore.DEFAULT_DEVICE_ID);
 
-        // 3. Redis 에서 해당 Member email 로 저장된 Refresh Token 이 있는지 여부를 확인 후 있을 경우 삭제합니다.
-        if (stringRedisTemplate.opsForValue().get("RT:" + authentication.getName()) != null) {
-            // Refresh Token 삭제
-            stringRedisTemplate.delete("RT:" + authentication.getName());
+        // 3. 이 기기의 토큰 epoch 를 올려서 이 기기에서 발급된 Access Token 만 폐기
+        // 기기 id 가 없는 이전 토큰은 기기를 구분할 수 없으므로 회원의 모든 Access Token 을 폐기한다.
+        if (token.getDeviceId() != null) {
+            tokenEpochStore.bumpDevice(memberId, token.getDeviceId());
+        } else {
+            tokenEpochStore.bump(memberId);
         }
-
-        // 4. 해당 Access Token 유효시간 가지고 와서 BlackList 로 저장하기
-        Long expiration = jwtTokenProvider.getExpiration(token);
-        stringRedisTemplate.opsForValue().set(accessToken, "logout", expiration, TimeUnit.MILLISECONDS);
     }
 
     @Transactional
@@ -203,6 +199,7 @@ public class MemberServiceImpl implements MemberService {
         }
 
         member.resetPassword(passwordEncoder.encode(pwd));
+        revokeTokens(member.getId());
 
         // 3. 이메일로 보낼 메일 내용을 작성하는 부분
         MimeMessage mimeMessage = javaMailSender.createMimeMessage();
@@ -219,8 +216,8 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
-    public MypageResponse findMypage(final String token, final String nickname) {
-        String id = jwtTokenProvider.getUser(token);
+    public MypageResponse findMypage(final ParsedToken token, final String nickname) {
+        String id = getMemberId(token);
         memberRepository.findById(Long.parseLong(id)).orElseThrow(NoSuchMemberException::new);
 
         Member member = memberRepository.findByNickname(nickname)
@@ -254,8 +251,8 @@ public class MemberServiceImpl implements MemberService {
 
     @Transactional
     @Override
-    public void update(final String token, MemberMypageRequest request, MultipartFile multipartFile) {
-        Member member = memberRepository.findById(Long.parseLong(jwtTokenProvider.getUser(token)))
+    public void update(final ParsedToken token, MemberMypageRequest request, MultipartFile multipartFile) {
+        Member member = memberRepository.findById(Long.parseLong(getMemberId(token)))
                 .orElseThrow(NoSuchMemberException::new);
 
         String imgUrl = fileUploader.upload(multipartFile, "member");
@@ -272,6 +269,7 @@ public class MemberServiceImpl implements MemberService {
         }
 
         member.updateMember(request, imgUrl);
+        memberSnapshotCache.evict(member.getId());
         if (!"".equals(request.getPassword())) {
             member.resetPassword(passwordEncoder.encode(request.getPassword()));
         }
@@ -284,16 +282,17 @@ public class MemberServiceImpl implements MemberService {
 
     @Transactional
     @Override
-    public void delete(final String token) {
-        Member member = memberRepository.findById(Long.parseLong(jwtTokenProvider.getUser(token)))
+    public void delete(final ParsedToken token) {
+        Member member = memberRepository.findById(Long.parseLong(getMemberId(token)))
                 .orElseThrow(NoSuchMemberException::new);
         member.checkWaiting();
         member.updateState(MemberState.WAITING, LocalDateTime.now());
+        revokeTokens(member.getId());
     }
 
     @Override
-    public List<MemberHobbyResponse> getHobbyList(final String token, String nickname) {
-        String id = jwtTokenProvider.getUser(token);
+    public List<MemberHobbyResponse> getHobbyList(final ParsedToken token, String nickname) {
+        String id = getMemberId(token);
         memberRepository.findById(Long.parseLong(id)).orElseThrow(NoSuchMemberException::new);
 
         Member member = memberRepository.findByNickname(nickname)
@@ -312,8 +311,8 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
-    public List<MemberPendingResponse> getPendingList(final String token) {
-        String id = jwtTokenProvider.getUser(token);
+    public List<MemberPendingResponse> getPendingList(final ParsedToken token) {
+        String id = getMemberId(token);
         Member member = memberRepository.findById(Long.parseLong(id)).orElseThrow(NoSuchMemberException::new);
 
         List<Pending> pendings = member.getPendings();
@@ -422,4 +421,17 @@ public class MemberServiceImpl implements MemberService {
         return account;
     }
 
+    // 회원의 모든 기기의 Refresh Token 을 삭제하고 토큰 epoch 를 올려서 모든 Access Token 을 폐기
+    private void revokeTokens(Long memberId) {
+        refreshTokenStore.removeAll(memberId);
+        tokenEpochStore.bump(memberId);
+    }
+
+    // 필터에서 파싱해 둔 토큰의 회원 id, 인증되지 않은 요청이면 401
+    private String getMemberId(final ParsedToken token) {
+        if (token == null) {
+            throw new JwtException("올바르지 않은 토큰 유형입니다.");
+        }
+        return token.getMemberId();
+    }
 }
@@ -2,16 +2,19 @@ package com.a505.hobbyit.pending.service;
 
 import com.a505.hobbyit.hobby.domain.Hobby;
 import com.a505.hobbyit.hobby.domain.HobbyRepository;
+import com.a505.hobbyit.hobby.event.HobbyChangeNotifier;
 import com.a505.hobbyit.hobby.enums.HobbyFree;
 import com.a505.hobbyit.hobby.exception.NoSuchHobbyException;
+import com.a505.hobbyit.hobby.popularity.HobbyPopularityRanking;
+import com.a505.hobbyit.hobby.popularity.PopularityEvent;
 import com.a505.hobbyit.hobbymember.domain.HobbyMember;
 import com.a505.hobbyit.hobbymember.domain.HobbyMemberRepository;
 import com.a505.hobbyit.hobbymember.enums.HobbyMemberPrivilege;
 import com.a505.hobbyit.hobbymember.enums.HobbyMemberState;
 import com.a505.hobbyit.hobbymember.exception.NoSuchHobbyMemberException;
+import com.a505.hobbyit.member.context.MemberContext;
 import com.a505.hobbyit.member.domain.Member;
 import com.a505.hobbyit.member.domain.MemberRepository;
-import com.a505.hobbyit.member.exception.InvalidedRefreshTokenException;
 import com.a505.hobbyit.pending.exception.DuplicatedPendingException;
 import com.a505.hobbyit.pending.domain.Pending;
 import com.a505.hobbyit.pending.domain.PendingRepository;
@@ -38,12 +41,15 @@ public class PendingServiceImpl implements PendingService{
     private final MemberRepository memberRepository;
     private final HobbyMemberRepository hobbyMemberRepository;
     private final PendingRepository pendingRepository;
+    private final HobbyChangeNotifier hobbyChangeNotifier;
+    private final HobbyPopularityRanking hobbyPopularityRanking;
 
     @Transactional
     @Override
-    public void join(String memberId, Long hobbyId, PendingRequest request) {
+    public void join(MemberContext memberContext, Long hobbyId, PendingRequest request) {
 
-        Member member = memberRepository.findById(Long.parseLong(memberId)).orElseThrow(InvalidedRefreshTokenException::new);
+        // MemberContext 가 회원 존재를 확인했으므로 조회 없이 참조만 얻는다.
+        Member member = memberRepository.getReferenceById(memberContext.getId());
         Hobby hobby = hobbyRepository.findById(hobbyId).orElseThrow(NoSuchHobbyException::new);
 
         if(pendingRepository.existsByMemberAndHobby(member, hobby) || hobbyMemberRepository.existsByMemberAndHobby(member, hobby))
@@ -55,6 +61,8 @@ public class PendingServiceImpl implements PendingService{
             HobbyMember hobbyMember = new HobbyMember().ofGeneral(member, hobby);
             hobbyMemberRepository.save(hobbyMember);
             hobby.updateCnt();
+            hobbyChangeNotifier.memberJoined(hobbyId, memberContext.getId());
+            hobbyPopularityRanking.record(hobbyId, PopularityEvent.JOIN);
             return;
         }
 
@@ -64,8 +72,8 @@ public class PendingServiceImpl implements PendingService{
     }
 
     @Override
-    public List<PendingResponse> findPendingList(String memberId, Long hobbyId) {
-        Hobby hobby = checkPrivilege(hobbyId, memberId);
+    public List<PendingResponse> findPendingList(MemberContext memberContext, Long hobbyId) {
+        Hobby hobby = checkPrivilege(hobbyId, memberContext);
 
         List<Pending> pendings = pendingRepository
                 .getAllByHobbyAndPendingAllow(hobby, PendingAllow.WAITING);
@@ -81,8 +89,8 @@ public class PendingServiceImpl implements PendingService{
     }
     @Transactional
     @Override
-    public void allowPending(String memberId, final Long hobbyId, PendingAllowRequest request) {
-       checkPrivilege(hobbyId, memberId);
+    public void allowPending(MemberContext memberContext, final Long hobbyId, PendingAllowRequest request) {
+       checkPrivilege(hobbyId, memberContext);
        Hobby hobby = hobbyRepository.findById(hobbyId).orElseThrow(NoSuchHobbyException::new);
 
        hobby.checkMemberCount();
@@ -105,13 +113,13 @@ public class PendingServiceImpl implements PendingService{
 
         hobbyMemberRepository.save(hobbyMember);
         hobby.updateCnt();
+        hobbyChangeNotifier.memberJoined(hobbyId, findMember.getId());
+        hobbyPopularityRanking.record(hobbyId, PopularityEvent.JOIN);
     }
 
     @Override
-    public Hobby checkPrivilege(Long hobbyId, String memberId){
-        Member member = memberRepository
-                .findById(Long.parseLong(memberId))
-                .orElseThrow(NoSuchElementException::new);
+    public Hobby checkPrivilege(Long hobbyId, MemberContext memberContext){
+        Member member = memberRepository.getReferenceById(memberContext.getId());
         Hobby hobby = hobbyRepository
                 .findById(hobbyId)
                 .orElseThrow(NoSuchHobbyException::new);
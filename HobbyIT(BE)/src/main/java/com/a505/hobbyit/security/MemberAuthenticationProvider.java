@@ -0,0 +1,77 @@
+package com.a505.hobbyit.security;
+
+import com.a505.hobbyit.member.domain.Member;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/*
+로그인 시 이미 조회한 Member 로 비밀번호를 검증하는 AuthenticationProvider
+- MemberAuthenticationProvider.unauthenticated(member, 비밀번호) 로 만든 요청만 처리하므로,
+  UserDetailsService 로 같은 회원을 다시 조회하지 않는다.
+- 이메일로 들어온 UsernamePasswordAuthenticationToken 은 DaoAuthenticationProvider 가 처리한다.
+ */
+@Component
+public class MemberAuthenticationProvider implements AuthenticationProvider {
+
+    private final PasswordEncoder passwordEncoder;
+    // 로그인 성공 시 저장된 해시의 cost 가 설정값보다 낮으면 새 cost 로 다시 암호화
+    private final boolean rehashOnLogin;
+
+    public MemberAuthenticationProvider(PasswordEncoder passwordEncoder,
+                                        @Value("${security.password.rehash-on-login:false}") boolean rehashOnLogin) {
+        this.passwordEncoder = passwordEncoder;
+        this.rehashOnLogin = rehashOnLogin;
+    }
+
+    public static Authentication unauthenticated(Member member, String rawPassword) {
+        return new LoadedMemberAuthenticationToken(member, rawPassword);
+    }
+
+    // 트랜잭션 안에서 호출하면 재암호화한 비밀번호는 변경 감지로 저장된다.
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        Member member = (Member) authentication.getPrincipal();
+        Object rawPassword = authentication.getCredentials();
+        if (rawPassword == null || !passwordEncoder.matches(rawPassword.toString(), member.getPassword())) {
+            throw new BadCredentialsException("자격 증명에 실패하였습니다.");
+        }
+        if (rehashOnLogin && passwordEncoder.upgradeEncoding(member.getPassword())) {
+            member.resetPassword(passwordEncoder.encode(rawPassword.toString()));
+        }
+        return UsernamePasswordAuthenticationToken.authenticated(member.getUsername(), null, member.getAuthorities());
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return LoadedMemberAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    // 이미 조회한 Member 와 입력한 비밀번호를 담은 인증 요청
+    private static class LoadedMemberAuthenticationToken extends AbstractAuthenticationToken {
+
+        private final Member member;
+        private final String rawPassword;
+
+        LoadedMemberAuthenticationToken(Member member, String rawPassword) {
+            super(null);
+            this.member = member;
+            this.rawPassword = rawPassword;
+        }
+
+        @Override
+        public Object getPrincipal() {
+            return member;
+        }
+
+        @Override
+        public Object getCredentials() {
+            return rawPassword;
+        }
+    }
+}
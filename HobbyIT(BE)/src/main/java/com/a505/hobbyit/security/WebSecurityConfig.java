@@ -2,14 +2,19 @@ package com.a505.hobbyit.security;
 
 import com.a505.hobbyit.jwt.JwtAuthenticationFilter;
 import com.a505.hobbyit.jwt.JwtTokenProvider;
+import com.a505.hobbyit.jwt.TokenAuthenticationCache;
+import com.a505.hobbyit.jwt.TokenEpochStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -20,11 +25,13 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class WebSecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+    private final TokenEpochStore tokenEpochStore;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, AuthenticationManager authenticationManager) throws Exception {
         http
+                .authenticationManager(authenticationManager)
                 .cors().and()
                 .httpBasic().disable()
                 .csrf().disable()
@@ -37,15 +44,33 @@ public class WebSecurityConfig {
                 .requestMatchers("/api/v1/users/userTest").hasRole("USER")
                 .requestMatchers("/api/v1/users/adminTest").hasRole("ADMIN")
                 .and()
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, stringRedisTemplate), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenAuthenticationCache, tokenEpochStore), UsernamePasswordAuthenticationFilter.class);
         // JwtAuthenticationFilter를 UsernamePasswordAuthentictaionFilter 전에 적용시킨다.
         return http.build();
     }
 
+    // 로그인은 조회해 둔 Member 로 검증하는 MemberAuthenticationProvider 가 처리하고,
+    // 이메일로 들어온 인증 요청은 UserDetailsService 로 회원을 조회하는 DaoAuthenticationProvider 가 처리한다.
+    @Bean
+    public AuthenticationManager authenticationManager(MemberAuthenticationProvider memberAuthenticationProvider,
+                                                       UserDetailsService userDetailsService,
+                                                       PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider();
+        daoAuthenticationProvider.setUserDetailsService(userDetailsService);
+        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder);
+        return new ProviderManager(memberAuthenticationProvider, daoAuthenticationProvider);
+    }
+
     // 암호화에 필요한 PasswordEncoder Bean 등록
+    // BCrypt 연산은 코어 수만큼의 전용 스레드에서 실행하고, 대기열이 가득 차거나 제한 시간을 넘기면 거절한다.
+    // 집계 값을 읽을 수 있도록 BoundedPasswordEncoder 타입으로 등록한다.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.threads:0}") int threads,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.timeout:3000}") long timeoutMillis) {
+        return new BoundedPasswordEncoder(strength, threads, queueCapacity, timeoutMillis);
     }
 
 }
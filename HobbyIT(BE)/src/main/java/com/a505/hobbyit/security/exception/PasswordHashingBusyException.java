@@ -0,0 +1,11 @@
+package com.a505.hobbyit.security.exception;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        this("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
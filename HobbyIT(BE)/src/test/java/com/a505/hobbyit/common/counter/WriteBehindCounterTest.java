@@ -0,0 +1,148 @@
+package com.a505.hobbyit.common.counter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindCounterTest {
+
+    private final FakeJdbcTemplate jdbcTemplate = new FakeJdbcTemplate();
+    private final WriteBehindCounter counter = new WriteBehindCounter(jdbcTemplate);
+
+    @Test
+    void 모아서_반영한다() {
+        counter.increment(CounterType.ARTICLE_HIT, 1L);
+        counter.increment(CounterType.ARTICLE_HIT, 1L);
+        counter.increment(CounterType.HOBBY_ARTICLE_HIT, 2L);
+        assertThat(counter.pending(CounterType.ARTICLE_HIT, 1L)).isEqualTo(2);
+
+        counter.flush();
+
+        assertThat(jdbcTemplate.saved(CounterType.ARTICLE_HIT, 1L)).isEqualTo(2);
+        assertThat(jdbcTemplate.saved(CounterType.HOBBY_ARTICLE_HIT, 2L)).isEqualTo(1);
+        assertThat(counter.pending(CounterType.ARTICLE_HIT, 1L)).isZero();
+    }
+
+    @Test
+    void 반영_중에도_pending_에_남아_있다() {
+        counter.increment(CounterType.ARTICLE_HIT, 1L);
+        counter.increment(CounterType.ARTICLE_HIT, 1L);
+        List<Long> duringBatch = new ArrayList<>();
+        jdbcTemplate.beforeCommit = type -> {
+            counter.increment(CounterType.ARTICLE_HIT, 1L);
+            duringBatch.add(counter.pending(CounterType.ARTICLE_HIT, 1L));
+        };
+
+        counter.flush();
+
+        assertThat(duringBatch).containsExactly(3L);
+        assertThat(counter.pending(CounterType.ARTICLE_HIT, 1L)).isEqualTo(1);
+    }
+
+    @Test
+    void 반영에_실패하면_다음에_다시_반영한다() {
+        counter.increment(CounterType.ARTICLE_HIT, 1L);
+        jdbcTemplate.beforeCommit = type -> {
+            throw new DataAccessResourceFailureException("down");
+        };
+
+        counter.flush();
+        assertThat(counter.pending(CounterType.ARTICLE_HIT, 1L)).isEqualTo(1);
+
+        jdbcTemplate.beforeCommit = type -> {
+        };
+        counter.flush();
+        assertThat(jdbcTemplate.saved(CounterType.ARTICLE_HIT, 1L)).isEqualTo(1);
+        assertThat(counter.pending(CounterType.ARTICLE_HIT, 1L)).isZero();
+    }
+
+    @Test
+    void 반영과_동시에_더해도_잃지_않는다() throws Exception {
+        int threads = 8;
+        int increments = 20_000;
+        long[] ids = {1L, 2L, 3L};
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            // 증가가 없는 주기에는 항목이 정리되므로 정리와 증가가 겹치는 경우도 함께 확인된다.
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (running.get()) {
+                    counter.flush();
+                }
+                return null;
+            });
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < increments; i++) {
+                        counter.increment(CounterType.ARTICLE_HIT, ids[i % ids.length]);
+                        if (i % 1000 == 0) Thread.yield();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        counter.flush();
+
+        long total = 0;
+        for (long id : ids) {
+            total += jdbcTemplate.saved(CounterType.ARTICLE_HIT, id);
+            assertThat(counter.pending(CounterType.ARTICLE_HIT, id)).isZero();
+        }
+        assertThat(total).isEqualTo((long) threads * increments);
+    }
+
+    // batchUpdate 로 더해진 값을 CounterType, id 별로 모아 두는 JdbcTemplate
+    private static final class FakeJdbcTemplate extends JdbcTemplate {
+        private final Map<String, Long> rows = new ConcurrentHashMap<>();
+        private volatile Consumer<CounterType> beforeCommit = type -> {
+        };
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            CounterType type = typeOf(sql);
+            beforeCommit.accept(type);
+            for (Object[] args : batchArgs) {
+                rows.merge(type + ":" + args[1], (Long) args[0], Long::sum);
+            }
+            return new int[batchArgs.size()];
+        }
+
+        long saved(CounterType type, Long id) {
+            return rows.getOrDefault(type + ":" + id, 0L);
+        }
+
+        private static CounterType typeOf(String sql) {
+            for (CounterType type : CounterType.values()) {
+                if (type.getUpdateSql().equals(sql)) return type;
+            }
+            throw new IllegalArgumentException(sql);
+        }
+    }
+}
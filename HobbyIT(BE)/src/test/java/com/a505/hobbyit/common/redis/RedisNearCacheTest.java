@@ -0,0 +1,85 @@
+package com.a505.hobbyit.common.redis;
+
+import com.a505.hobbyit.support.LocalRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisNearCacheTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = LocalRedis.connectionFactory();
+        stringRedisTemplate = LocalRedis.template(connectionFactory);
+        nearCache = new RedisNearCache(stringRedisTemplate);
+        nearCache.enable(LocalRedis.uri(), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nearCache.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 두_번째_조회부터_로컬에서_읽는다() {
+        stringRedisTemplate.opsForValue().set("near:a", "1");
+
+        assertThat(nearCache.get("near:a")).isEqualTo("1");
+        assertThat(nearCache.get("near:a")).isEqualTo("1");
+
+        assertThat(nearCache.getMissCount()).isEqualTo(1);
+        assertThat(nearCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 없는_키는_null_이고_캐시하지_않는다() {
+        assertThat(nearCache.get("near:missing")).isNull();
+        assertThat(nearCache.get("near:missing")).isNull();
+        assertThat(nearCache.getMissCount()).isEqualTo(2);
+
+        stringRedisTemplate.opsForValue().set("near:missing", "1");
+        assertThat(nearCache.get("near:missing")).isEqualTo("1");
+    }
+
+    @Test
+    void 값이_바뀌면_무효화된다() {
+        stringRedisTemplate.opsForValue().set("near:b", "1");
+        assertThat(nearCache.get("near:b")).isEqualTo("1");
+
+        stringRedisTemplate.opsForValue().increment("near:b");
+
+        LocalRedis.await(() -> "2".equals(nearCache.get("near:b")), TIMEOUT);
+    }
+
+    @Test
+    void 키가_만료되면_무효화된다() {
+        stringRedisTemplate.opsForValue().set("near:c", "1", Duration.ofMillis(200));
+        assertThat(nearCache.get("near:c")).isEqualTo("1");
+
+        LocalRedis.await(() -> nearCache.get("near:c") == null, TIMEOUT);
+    }
+
+    @Test
+    void 비활성화_상태에서는_매번_Redis_에서_읽는다() {
+        RedisNearCache disabled = new RedisNearCache(stringRedisTemplate);
+        stringRedisTemplate.opsForValue().set("near:d", "1");
+
+        assertThat(disabled.get("near:d")).isEqualTo("1");
+        stringRedisTemplate.opsForValue().set("near:d", "2");
+        assertThat(disabled.get("near:d")).isEqualTo("2");
+        assertThat(disabled.isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,76 @@
+package com.a505.hobbyit.hobby.event;
+
+import com.a505.hobbyit.hobby.domain.HobbyRepository;
+import com.a505.hobbyit.hobby.dto.HobbyResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class HobbyChangeNotifierTest {
+
+    private HobbyRepository hobbyRepository;
+    private List<Optional<HobbyResponse>> seen;
+    private HobbyChangeNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        hobbyRepository = mock(HobbyRepository.class);
+        given(hobbyRepository.findHobbyResponsesByIds(List.of(1L)))
+                .willReturn(List.of(HobbyResponse.builder().id(1L).name("등산").participantsNum(3).build()));
+        seen = new ArrayList<>();
+        notifier = new HobbyChangeNotifier(mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class),
+                hobbyRepository, List.of(reader(), new HobbyChangeListener() {
+                }, reader(), reader()));
+    }
+
+    @Test
+    void 한_이벤트의_리스너들은_소모임을_한_번만_읽는다() {
+        receive("MEMBER_JOINED:1:2");
+
+        verify(hobbyRepository, times(1)).findHobbyResponsesByIds(any());
+        assertThat(seen).hasSize(3).allSatisfy(hobby -> assertThat(hobby.orElseThrow().getParticipantsNum()).isEqualTo(3));
+    }
+
+    @Test
+    void 이벤트마다_새로_읽는다() {
+        receive("CHANGED:1:");
+        receive("MEMBER_LEFT:1:2");
+
+        verify(hobbyRepository, times(2)).findHobbyResponsesByIds(any());
+    }
+
+    @Test
+    void 삭제와_권한_변경은_행을_넘기지_않는다() {
+        receive("DELETED:1:");
+        receive("MEMBER_CHANGED:1:2");
+
+        verifyNoInteractions(hobbyRepository);
+        assertThat(seen).isEmpty();
+    }
+
+    private HobbyChangeListener reader() {
+        return new HobbyChangeListener() {
+            @Override
+            public void hobbyUpdated(HobbySnapshot hobby) {
+                seen.add(hobby.get());
+            }
+        };
+    }
+
+    private void receive(String body) {
+        notifier.onMessage(new DefaultMessage(HobbyChangeNotifier.CHANGE_TOPIC.getTopic().getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+}
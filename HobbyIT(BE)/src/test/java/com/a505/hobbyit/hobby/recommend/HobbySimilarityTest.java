@@ -0,0 +1,201 @@
+package com.a505.hobbyit.hobby.recommend;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class HobbySimilarityTest {
+
+    private FakeJdbcTemplate jdbcTemplate;
+
+    /*
+    10: m1 m2 m3, 20: m1 m2 m4, 30: m3 m4, 40: m5
+    cos(10, 20) = 2/3, cos(10, 30) = cos(20, 30) = 1/sqrt(6)
+     */
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new FakeJdbcTemplate();
+        jdbcTemplate.join(1, 10);
+        jdbcTemplate.join(1, 20);
+        jdbcTemplate.join(2, 10);
+        jdbcTemplate.join(2, 20);
+        jdbcTemplate.join(3, 10);
+        jdbcTemplate.join(3, 30);
+        jdbcTemplate.join(4, 20);
+        jdbcTemplate.join(4, 30);
+        jdbcTemplate.join(5, 40);
+    }
+
+    @Test
+    void 전체_계산은_공통_회원의_cosine_순으로_정렬한다() {
+        HobbySimilarity similarity = new HobbySimilarity(jdbcTemplate, 10);
+        similarity.rebuild();
+
+        assertThat(similarity.similarHobbyIds(10L)).containsExactly(20L, 30L);
+        assertThat(similarity.similarHobbyIds(20L)).containsExactly(10L, 30L);
+        assertThat(similarity.similarHobbyIds(30L)).containsExactlyInAnyOrder(10L, 20L);
+        assertThat(similarity.similarHobbyIds(40L)).isEmpty();
+        assertThat(similarity.similarHobbyIds(99L)).isEmpty();
+    }
+
+    @Test
+    void 상위_K_개만_남긴다() {
+        HobbySimilarity similarity = new HobbySimilarity(jdbcTemplate, 1);
+        similarity.rebuild();
+
+        assertThat(similarity.similarHobbyIds(10L)).containsExactly(20L);
+        assertThat(similarity.similarHobbyIds(20L)).containsExactly(10L);
+    }
+
+    @Test
+    void 가입_이벤트의_부분_계산은_전체_계산과_같다() {
+        HobbySimilarity incremental = new HobbySimilarity(jdbcTemplate, 10);
+        incremental.rebuild();
+
+        // 10: m1 m2 m3 m6 m7, 30: m3 m4 m6 m7 -> cos(10, 30) = 3/sqrt(20) > cos(10, 20) = 2/sqrt(15)
+        jdbcTemplate.join(6, 10);
+        jdbcTemplate.join(6, 30);
+        jdbcTemplate.join(7, 10);
+        jdbcTemplate.join(7, 30);
+        incremental.memberJoined(30L, 6L);
+        incremental.memberJoined(30L, 7L);
+        incremental.refresh();
+
+        HobbySimilarity full = new HobbySimilarity(jdbcTemplate, 10);
+        full.rebuild();
+
+        assertThat(incremental.similarHobbyIds(10L)).containsExactly(30L, 20L);
+        assertThat(incremental.similarHobbyIds(30L)).containsExactly(10L, 20L);
+        assertThat(incremental.similarHobbyIds(10L)).isEqualTo(full.similarHobbyIds(10L));
+        assertThat(incremental.similarHobbyIds(30L)).isEqualTo(full.similarHobbyIds(30L));
+    }
+
+    @Test
+    void 전체_계산_도중의_가입도_반영한다() {
+        HobbySimilarity similarity = new HobbySimilarity(jdbcTemplate, 10);
+        // 스트리밍이 시작된 뒤 가입이 커밋되어 이미 읽은 행에는 보이지 않는 경우
+        jdbcTemplate.duringScan = () -> {
+            jdbcTemplate.join(6, 10);
+            jdbcTemplate.join(6, 30);
+            jdbcTemplate.join(7, 10);
+            jdbcTemplate.join(7, 30);
+            similarity.memberJoined(30L, 6L);
+            similarity.memberJoined(30L, 7L);
+        };
+        similarity.rebuild();
+
+        assertThat(similarity.similarHobbyIds(10L)).containsExactly(30L, 20L);
+        assertThat(similarity.similarHobbyIds(30L)).containsExactly(10L, 20L);
+    }
+
+    @Test
+    void 마지막_회원이_나가면_행을_지운다() {
+        HobbySimilarity similarity = new HobbySimilarity(jdbcTemplate, 10);
+        similarity.rebuild();
+
+        jdbcTemplate.leave(5, 40);
+        jdbcTemplate.leave(3, 30);
+        jdbcTemplate.leave(4, 30);
+        similarity.memberLeft(40L, 5L);
+        similarity.memberLeft(30L, 3L);
+        similarity.memberLeft(30L, 4L);
+        similarity.refresh();
+
+        assertThat(similarity.similarHobbyIds(40L)).isEmpty();
+        assertThat(similarity.similarHobbyIds(30L)).isEmpty();
+        assertThat(similarity.similarHobbyIds(10L)).containsExactly(20L);
+    }
+
+    @Test
+    void 삭제된_소모임의_행을_지운다() {
+        HobbySimilarity similarity = new HobbySimilarity(jdbcTemplate, 10);
+        similarity.rebuild();
+
+        similarity.hobbyDeleted(10L);
+
+        assertThat(similarity.similarHobbyIds(10L)).isEmpty();
+    }
+
+    // hobby_member 의 ACTIVE 행을 메모리에 두고 HobbySimilarity 의 네 가지 쿼리에 답한다.
+    private static final class FakeJdbcTemplate extends JdbcTemplate {
+        private final List<long[]> memberships = new ArrayList<>();
+        private Runnable duringScan = () -> {
+        };
+
+        void join(long memberId, long hobbyId) {
+            memberships.add(new long[]{memberId, hobbyId});
+        }
+
+        void leave(long memberId, long hobbyId) {
+            memberships.removeIf(row -> row[0] == memberId && row[1] == hobbyId);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            List<long[]> rows = new ArrayList<>(memberships);
+            rows.sort(Comparator.comparingLong(row -> row[0]));
+            duringScan.run();
+            duringScan = () -> {
+            };
+            for (long[] row : rows) {
+                processRow(rch, Map.of(1, row[0], 2, row[1]), Map.of());
+            }
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            long hobbyId = (Long) args[0];
+            Map<Long, Integer> overlap = new TreeMap<>();
+            for (long memberId : membersOf(hobbyId)) {
+                for (long other : hobbiesOf(memberId)) {
+                    if (other != hobbyId) overlap.merge(other, 1, Integer::sum);
+                }
+            }
+            overlap.forEach((other, count) -> processRow(rch, Map.of(),
+                    Map.of("hobby_id", other, "overlap", (long) count, "size", (long) membersOf(other).size())));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            return (T) Integer.valueOf(membersOf((Long) args[0]).size());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            return (List<T>) hobbiesOf((Long) args[0]);
+        }
+
+        private List<Long> membersOf(long hobbyId) {
+            return memberships.stream().filter(row -> row[1] == hobbyId).map(row -> row[0]).toList();
+        }
+
+        private List<Long> hobbiesOf(long memberId) {
+            return memberships.stream().filter(row -> row[0] == memberId).map(row -> row[1]).toList();
+        }
+
+        private static void processRow(RowCallbackHandler rch, Map<Integer, Long> byIndex, Map<String, Long> byLabel) {
+            try {
+                ResultSet rs = mock(ResultSet.class);
+                given(rs.getLong(anyInt())).willAnswer(invocation -> byIndex.get(invocation.<Integer>getArgument(0)));
+                given(rs.getLong(anyString())).willAnswer(invocation -> byLabel.get(invocation.<String>getArgument(0)));
+                given(rs.getInt(anyString())).willAnswer(invocation -> byLabel.get(invocation.<String>getArgument(0)).intValue());
+                rch.processRow(rs);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.a505.hobbyit.hobby.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    void 음절을_초성_중성_종성으로_분해한다() {
+        assertThat(HangulJamo.decompose("등산")).isEqualTo("ㄷㅡㅇㅅㅏㄴ");
+        assertThat(HangulJamo.decompose("가")).isEqualTo("ㄱㅏ");
+    }
+
+    @Test
+    void 겹모음을_풀어서_입력_중인_글자가_접두어가_된다() {
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("의")).isEqualTo("ㅇㅡㅣ");
+        assertThat(HangulJamo.decompose("과")).startsWith(HangulJamo.decompose("고"));
+    }
+
+    @Test
+    void 겹받침을_풀어서_입력_중인_글자가_접두어가_된다() {
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("값")).isEqualTo("ㄱㅏㅂㅅ");
+        assertThat(HangulJamo.decompose("닭")).startsWith(HangulJamo.decompose("달"));
+    }
+
+    @Test
+    void 홀로_입력된_겹자모도_풀어낸다() {
+        assertThat(HangulJamo.decompose("ㄺ")).isEqualTo("ㄹㄱ");
+        assertThat(HangulJamo.decompose("ㅘ")).isEqualTo("ㅗㅏ");
+        assertThat(HangulJamo.decompose("ㄷ")).isEqualTo("ㄷ");
+    }
+
+    @Test
+    void 한글이_아닌_글자는_소문자로_그대로_둔다() {
+        assertThat(HangulJamo.decompose("Java 3")).isEqualTo("java 3");
+    }
+}
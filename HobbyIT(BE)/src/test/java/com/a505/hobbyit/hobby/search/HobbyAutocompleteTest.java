@@ -0,0 +1,109 @@
+package com.a505.hobbyit.hobby.search;
+
+import com.a505.hobbyit.hobby.domain.HobbyRepository;
+import com.a505.hobbyit.hobby.dto.HobbyAutocompleteResponse;
+import com.a505.hobbyit.hobby.dto.HobbyResponse;
+import com.a505.hobbyit.hobby.event.HobbySnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class HobbyAutocompleteTest {
+
+    private HobbyRepository hobbyRepository;
+    private HobbyAutocomplete autocomplete;
+
+    @BeforeEach
+    void setUp() {
+        hobbyRepository = mock(HobbyRepository.class);
+        given(hobbyRepository.findHobbyResponses()).willReturn(List.of(
+                hobby(1L, "등산 모임", 10),
+                hobby(2L, "주말 등산", 30),
+                hobby(3L, "드럼 동호회", 20),
+                hobby(4L, "닭갈비 탐방", 5),
+                hobby(5L, "과학 토론", 7)
+        ));
+        autocomplete = new HobbyAutocomplete(hobbyRepository, 2);
+        autocomplete.init();
+    }
+
+    @Test
+    void 초성_입력_중인_음절_완성된_음절_모두_맞는다() {
+        assertThat(ids("ㄷ")).containsExactly(2L, 3L);
+        assertThat(ids("드")).containsExactly(2L, 3L);
+        assertThat(ids("등")).containsExactly(2L, 1L);
+        assertThat(ids("등산")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 단어_중간의_시작_위치에서도_맞는다() {
+        assertThat(ids("주말")).containsExactly(2L);
+        assertThat(ids("동호")).containsExactly(3L);
+        assertThat(ids("모")).containsExactly(1L);
+    }
+
+    @Test
+    void 겹모음과_겹받침을_입력하는_중에도_맞는다() {
+        assertThat(ids("고")).containsExactly(5L);
+        assertThat(ids("달")).containsExactly(4L);
+        assertThat(ids("닭")).containsExactly(4L);
+    }
+
+    @Test
+    void 공백은_무시한다() {
+        assertThat(ids("등산모")).containsExactly(1L);
+        assertThat(ids("등산 모")).containsExactly(1L);
+    }
+
+    @Test
+    void 단어_가운데의_음절로는_맞지_않는다() {
+        assertThat(ids("산")).isEmpty();
+        assertThat(ids("없는이름")).isEmpty();
+        assertThat(ids(" ")).isEmpty();
+    }
+
+    @Test
+    void 변경을_반영해_다시_만든다() {
+        given(hobbyRepository.findHobbyResponsesByIds(List.of(6L))).willReturn(List.of(hobby(6L, "등대 사진", 100)));
+        autocomplete.hobbyUpdated(snapshot(hobbyRepository, 6L));
+        autocomplete.hobbyDeleted(2L);
+        autocomplete.rebuildIfDirty();
+
+        assertThat(ids("등")).containsExactly(6L, 1L);
+    }
+
+    @Test
+    void 기동_중에_받은_이벤트를_스냅샷으로_덮지_않는다() {
+        HobbyRepository repository = mock(HobbyRepository.class);
+        HobbyAutocomplete starting = new HobbyAutocomplete(repository, 10);
+        given(repository.findHobbyResponsesByIds(List.of(1L))).willReturn(List.of(hobby(1L, "독서 모임", 10)));
+        // 스냅샷을 읽는 동안 1 번은 이름이 바뀌고 2 번은 삭제된다.
+        given(repository.findHobbyResponses()).willAnswer(invocation -> {
+            starting.hobbyUpdated(snapshot(repository, 1L));
+            starting.hobbyDeleted(2L);
+            return List.of(hobby(1L, "등산 모임", 10), hobby(2L, "주말 등산", 30));
+        });
+
+        starting.init();
+
+        assertThat(starting.suggest("등")).isEmpty();
+        assertThat(starting.suggest("독서").stream().map(HobbyAutocompleteResponse::getId).toList()).containsExactly(1L);
+    }
+
+    private List<Long> ids(String keyword) {
+        return autocomplete.suggest(keyword).stream().map(HobbyAutocompleteResponse::getId).toList();
+    }
+
+    private static HobbySnapshot snapshot(HobbyRepository repository, Long hobbyId) {
+        return new HobbySnapshot(hobbyId, id -> repository.findHobbyResponsesByIds(List.of(id)).stream().findFirst());
+    }
+
+    private static HobbyResponse hobby(Long id, String name, int participantsNum) {
+        return HobbyResponse.builder().id(id).name(name).participantsNum(participantsNum).build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.a505.hobbyit.hobbyarticle.notice;
+
+import com.a505.hobbyit.common.redis.RedisNearCache;
+import com.a505.hobbyit.hobbyarticle.domain.HobbyArticleRepository;
+import com.a505.hobbyit.support.LocalRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class HobbyNoticeCounterTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisNearCache nearCache;
+    private HobbyArticleRepository hobbyArticleRepository;
+    private HobbyNoticeCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = LocalRedis.connectionFactory();
+        stringRedisTemplate = LocalRedis.template(connectionFactory);
+        nearCache = new RedisNearCache(stringRedisTemplate);
+        nearCache.enable(LocalRedis.uri(), 100);
+        hobbyArticleRepository = mock(HobbyArticleRepository.class);
+        counter = new HobbyNoticeCounter(stringRedisTemplate, nearCache, hobbyArticleRepository, TTL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nearCache.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 처음_조회할_때_한_번만_세고_TTL_과_함께_채운다() {
+        given(hobbyArticleRepository.countHobbyNotice(1L)).willReturn(3L);
+
+        assertThat(counter.count(1L)).isEqualTo(3);
+        assertThat(counter.count(1L)).isEqualTo(3);
+
+        verify(hobbyArticleRepository, times(1)).countHobbyNotice(1L);
+        assertThat(stringRedisTemplate.opsForValue().get("hobby:notice:count:1")).isEqualTo("3");
+        assertThat(stringRedisTemplate.getExpire("hobby:notice:count:1")).isPositive();
+    }
+
+    @Test
+    void 작성과_삭제를_증감하고_TTL_을_유지한다() {
+        given(hobbyArticleRepository.countHobbyNotice(1L)).willReturn(3L);
+        counter.count(1L);
+
+        counter.noticeSaved(1L);
+        counter.noticeSaved(1L);
+        counter.noticeDeleted(1L);
+
+        assertThat(stringRedisTemplate.opsForValue().get("hobby:notice:count:1")).isEqualTo("4");
+        assertThat(stringRedisTemplate.getExpire("hobby:notice:count:1")).isPositive();
+        LocalRedis.await(() -> counter.count(1L) == 4, TIMEOUT);
+        verify(hobbyArticleRepository, times(1)).countHobbyNotice(1L);
+    }
+
+    @Test
+    void 채워지기_전의_변경은_반영하지_않는다() {
+        counter.noticeSaved(2L);
+
+        assertThat(stringRedisTemplate.hasKey("hobby:notice:count:2")).isFalse();
+        given(hobbyArticleRepository.countHobbyNotice(2L)).willReturn(1L);
+        assertThat(counter.count(2L)).isEqualTo(1);
+    }
+
+    @Test
+    void 소모임이_삭제되면_키를_지운다() {
+        given(hobbyArticleRepository.countHobbyNotice(3L)).willReturn(5L);
+        counter.count(3L);
+
+        counter.hobbyDeleted(3L);
+
+        assertThat(stringRedisTemplate.hasKey("hobby:notice:count:3")).isFalse();
+    }
+
+    @Test
+    void near_cache_를_읽지_못해도_Redis_에_채운다() {
+        RedisNearCache broken = mock(RedisNearCache.class);
+        given(broken.get(anyString())).willThrow(new RedisConnectionFailureException("tracking connection lost"));
+        HobbyNoticeCounter fallback = new HobbyNoticeCounter(stringRedisTemplate, broken, hobbyArticleRepository, TTL);
+        given(hobbyArticleRepository.countHobbyNotice(4L)).willReturn(2L);
+
+        assertThat(fallback.count(4L)).isEqualTo(2);
+        assertThat(fallback.count(4L)).isEqualTo(2);
+
+        verify(hobbyArticleRepository, times(1)).countHobbyNotice(4L);
+        assertThat(stringRedisTemplate.opsForValue().get("hobby:notice:count:4")).isEqualTo("2");
+    }
+}
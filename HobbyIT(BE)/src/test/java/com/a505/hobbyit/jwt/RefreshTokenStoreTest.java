@@ -0,0 +1,135 @@
+package com.a505.hobbyit.jwt;
+
+import com.a505.hobbyit.support.LocalRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenStoreTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String KEY = "RT:" + MEMBER_ID;
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = LocalRedis.connectionFactory();
+        stringRedisTemplate = LocalRedis.template(connectionFactory);
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 기기별로_저장하고_토큰_대신_해시를_저장한다() {
+        refreshTokenStore.save(MEMBER_ID, "phone", "token-a", DAY);
+        refreshTokenStore.save(MEMBER_ID, "laptop", "token-b", 2 * DAY);
+
+        assertThat(stringRedisTemplate.<String, String>opsForHash().keys(KEY)).containsExactlyInAnyOrder("phone", "laptop");
+        assertThat(stringRedisTemplate.<String, String>opsForHash().get(KEY, "phone"))
+                .endsWith(":" + TokenAuthenticationCache.hash("token-a"))
+                .doesNotContain("token-a");
+        // 키는 가장 늦게 만료되는 세션에 맞춰 만료된다.
+        assertThat(stringRedisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS)).isGreaterThan(DAY);
+    }
+
+    @Test
+    void 같은_기기는_덮어쓴다() {
+        refreshTokenStore.save(MEMBER_ID, "phone", "token-a", DAY);
+        refreshTokenStore.save(MEMBER_ID, "phone", "token-b", DAY);
+
+        assertThat(stringRedisTemplate.opsForHash().size(KEY)).isEqualTo(1);
+        assertThat(refreshTokenStore.rotate(MEMBER_ID, "phone", "token-a", "token-c", DAY)).isEqualTo(RefreshTokenStore.MISMATCH);
+        assertThat(refreshTokenStore.rotate(MEMBER_ID, "phone", "token-b", "token-c", DAY)).isEqualTo(RefreshTokenStore.ROTATED);
+    }
+
+    @Test
+    void 세션_수를_넘으면_가장_먼저_만료되는_세션을_지운다() {
+        refreshTokenStore.save(MEMBER_ID, "phone", "token-a", 2 * DAY);
+        refreshTokenStore.save(MEMBER_ID, "tablet", "token-b", DAY);
+        refreshTokenStore.save(MEMBER_ID, "laptop", "token-c", 3 * DAY);
+
+        assertThat(stringRedisTemplate.<String, String>opsForHash().keys(KEY)).containsExactlyInAnyOrder("phone", "laptop");
+        assertThat(refreshTokenStore.rotate(MEMBER_ID, "tablet", "token-b", "token-d", DAY)).isEqualTo(RefreshTokenStore.NOT_FOUND);
+    }
+
+    @Test
+    void 저장할_때_만료된_세션을_정리한다() throws InterruptedException {
+        refreshTokenStore.save(MEMBER_ID, "phone", "token-a", DAY);
+        refreshTokenStore.save(MEMBER_ID, "tablet", "token-b", 50);
+        Thread.sleep(100);
+
+        // 세션 수 제한에 걸리지 않는 저장에서도 만료된 tablet 을 지운다.
+        refreshTokenStore.save(MEMBER_ID, "phone", "token-c", DAY);
+
+        assertThat(stringRedisTemplate.<String, String>opsForHash().keys(KEY)).containsExactly("phone");
+    }
+
+    @Test
+    void 저장된_토큰과_같을_때만_교체한다() {
+        refreshTokenStore.save(MEMBER_ID, "phone", "token-a", DAY);
+
+        assertThat(refreshTokenStore.rotate(MEMBER_ID, "phone", "token-a", "token-b", DAY)).isEqualTo(RefreshTokenStore.ROTATED);
+        // 이미 교체된 토큰을 다시 쓰면 거부하고 새 토큰은 그대로 둔다.
+        assertThat(refreshTokenStore.rotate(MEMBER_ID, "phone", "token-a", "token-c", DAY)).isEqualTo(RefreshTokenStore.MISMATCH);
+        assertThat(refreshTokenStore.rotate(MEMBER_ID, "phone", "token-b", "token-c", DAY)).isEqualTo(RefreshTokenStore.ROTATED);
+    }
+
+    @Test
+    void 없거나_만료된_세션은_교체하지_않는다() throws InterruptedException {
+        assertThat(refreshTokenStore.rotate(MEMBER_ID, "phone", "token-a", "token-b", DAY)).isEqualTo(RefreshTokenStore.NOT_FOUND);
+
+        refreshTokenStore.save(MEMBER_ID, "laptop", "token-c", DAY);
+        refreshTokenStore.save(MEMBER_ID, "phone", "token-a", 50);
+        Thread.sleep(100);
+
+        assertThat(refreshTokenStore.rotate(MEMBER_ID, "phone", "token-a", "token-b", DAY)).isEqualTo(RefreshTokenStore.NOT_FOUND);
+        assertThat(stringRedisTemplate.opsForHash().hasKey(KEY, "phone")).isFalse();
+    }
+
+    @Test
+    void 교체하면_키_만료를_새_세션에_맞춰_늘린다() {
+        refreshTokenStore.save(MEMBER_ID, "phone", "token-a", DAY);
+
+        refreshTokenStore.rotate(MEMBER_ID, "phone", "token-a", "token-b", 3 * DAY);
+
+        assertThat(stringRedisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS)).isGreaterThan(2 * DAY);
+    }
+
+    @Test
+    void 로그아웃은_그_기기만_지운다() {
+        refreshTokenStore.save(MEMBER_ID, "phone", "token-a", DAY);
+        refreshTokenStore.save(MEMBER_ID, "laptop", "token-b", DAY);
+
+        refreshTokenStore.remove(MEMBER_ID, "phone");
+
+        assertThat(stringRedisTemplate.<String, String>opsForHash().keys(KEY)).containsExactly("laptop");
+        assertThat(refreshTokenStore.rotate(MEMBER_ID, "phone", "token-a", "token-c", DAY)).isEqualTo(RefreshTokenStore.NOT_FOUND);
+    }
+
+    @Test
+    void 이전_형식의_문자열_키는_지우고_새로_저장한다() {
+        stringRedisTemplate.opsForValue().set(KEY, "legacy-token");
+
+        assertThat(refreshTokenStore.rotate(MEMBER_ID, "phone", "legacy-token", "token-b", DAY)).isEqualTo(RefreshTokenStore.NOT_FOUND);
+        refreshTokenStore.remove(MEMBER_ID, "phone");
+        assertThat(stringRedisTemplate.hasKey(KEY)).isFalse();
+
+        stringRedisTemplate.opsForValue().set(KEY, "legacy-token");
+        refreshTokenStore.save(MEMBER_ID, "phone", "token-a", DAY);
+        assertThat(stringRedisTemplate.<String, String>opsForHash().keys(KEY)).containsExactly("phone");
+    }
+}
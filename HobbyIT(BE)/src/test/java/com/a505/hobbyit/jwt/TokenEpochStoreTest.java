@@ -0,0 +1,149 @@
+package com.a505.hobbyit.jwt;
+
+import com.a505.hobbyit.support.LocalRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TokenEpochStoreTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String PHONE = "phone";
+    private static final String LAPTOP = "laptop";
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private TokenEpochStore tokenEpochStore;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = LocalRedis.connectionFactory();
+        stringRedisTemplate = LocalRedis.template(connectionFactory);
+        tokenEpochStore = newStore();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void epoch_를_올리면_이전_토큰은_폐기된다() {
+        ParsedToken before = token(tokenEpochStore, PHONE);
+        assertThat(tokenEpochStore.isRevoked(before)).isFalse();
+
+        tokenEpochStore.bump(MEMBER_ID);
+
+        assertThat(tokenEpochStore.isRevoked(before)).isTrue();
+        assertThat(tokenEpochStore.isRevoked(token(tokenEpochStore, PHONE))).isFalse();
+        assertThat(stringRedisTemplate.opsForHash().get(TokenEpochStore.KEY, String.valueOf(MEMBER_ID))).isEqualTo("1");
+    }
+
+    @Test
+    void 로그아웃은_그_기기의_토큰만_폐기한다() {
+        ParsedToken phone = token(tokenEpochStore, PHONE);
+        ParsedToken laptop = token(tokenEpochStore, LAPTOP);
+
+        tokenEpochStore.bumpDevice(MEMBER_ID, PHONE);
+
+        assertThat(tokenEpochStore.isRevoked(phone)).isTrue();
+        assertThat(tokenEpochStore.isRevoked(laptop)).isFalse();
+        assertThat(tokenEpochStore.isRevoked(token(tokenEpochStore, PHONE))).isFalse();
+        assertThat(stringRedisTemplate.opsForZSet().score(TokenEpochStore.DEVICE_KEY, MEMBER_ID + ":" + PHONE)).isNotNull();
+    }
+
+    @Test
+    void 메시지로_다른_노드의_변경을_반영한다() {
+        tokenEpochStore.resync();
+        ParsedToken before = token(tokenEpochStore, PHONE);
+
+        tokenEpochStore.onMessage(message(MEMBER_ID + ":3"), null);
+
+        assertThat(tokenEpochStore.currentEpoch(MEMBER_ID)).isEqualTo(3);
+        assertThat(tokenEpochStore.isRevoked(before)).isTrue();
+    }
+
+    @Test
+    void 놓친_메시지는_resync_로_따라잡는다() {
+        TokenEpochStore other = newStore();
+        other.resync();
+        tokenEpochStore.resync();
+        ParsedToken before = token(other, PHONE);
+
+        // 메시지가 전달되지 않은 상황
+        tokenEpochStore.bump(MEMBER_ID);
+        tokenEpochStore.bumpDevice(MEMBER_ID, LAPTOP);
+        ParsedToken laptop = token(other, LAPTOP);
+        assertThat(other.isRevoked(before)).isFalse();
+
+        other.resync();
+
+        assertThat(other.isRevoked(before)).isTrue();
+        assertThat(other.currentEpoch(MEMBER_ID)).isEqualTo(1);
+        assertThat(other.currentDeviceEpoch(MEMBER_ID, LAPTOP)).isEqualTo(tokenEpochStore.currentDeviceEpoch(MEMBER_ID, LAPTOP));
+        assertThat(laptop.getDeviceEpoch()).isEqualTo(other.currentDeviceEpoch(MEMBER_ID, LAPTOP));
+    }
+
+    @Test
+    void Redis_가_초기화되면_메모리_값으로_복구한다() {
+        tokenEpochStore.bump(MEMBER_ID);
+        tokenEpochStore.bump(MEMBER_ID);
+        tokenEpochStore.bumpDevice(MEMBER_ID, PHONE);
+        long deviceEpoch = tokenEpochStore.currentDeviceEpoch(MEMBER_ID, PHONE);
+        tokenEpochStore.resync();
+
+        stringRedisTemplate.delete(TokenEpochStore.KEY);
+        stringRedisTemplate.delete(TokenEpochStore.DEVICE_KEY);
+        tokenEpochStore.resync();
+
+        assertThat(stringRedisTemplate.opsForHash().get(TokenEpochStore.KEY, String.valueOf(MEMBER_ID))).isEqualTo("2");
+        assertThat(stringRedisTemplate.opsForZSet().score(TokenEpochStore.DEVICE_KEY, MEMBER_ID + ":" + PHONE))
+                .isEqualTo((double) deviceEpoch);
+
+        // 복구된 값에서 이어서 올라가므로 새 노드도 폐기된 토큰을 받지 않는다.
+        TokenEpochStore restarted = newStore();
+        restarted.resync();
+        assertThat(restarted.currentEpoch(MEMBER_ID)).isEqualTo(2);
+        assertThat(restarted.currentDeviceEpoch(MEMBER_ID, PHONE)).isEqualTo(deviceEpoch);
+    }
+
+    @Test
+    void 초기화_뒤에도_epoch_는_줄어들지_않는다() {
+        tokenEpochStore.bump(MEMBER_ID);
+        tokenEpochStore.bump(MEMBER_ID);
+        stringRedisTemplate.delete(TokenEpochStore.KEY);
+
+        tokenEpochStore.bump(MEMBER_ID);
+
+        assertThat(tokenEpochStore.currentEpoch(MEMBER_ID)).isEqualTo(3);
+        assertThat(tokenEpochStore.issueEpoch(MEMBER_ID)).isEqualTo(3);
+    }
+
+    private TokenEpochStore newStore() {
+        return new TokenEpochStore(stringRedisTemplate, mock(RedisMessageListenerContainer.class));
+    }
+
+    private static ParsedToken token(TokenEpochStore store, String deviceId) {
+        return ParsedToken.builder()
+                .memberId(String.valueOf(MEMBER_ID))
+                .epoch(store.issueEpoch(MEMBER_ID))
+                .deviceId(deviceId)
+                .deviceEpoch(store.issueDeviceEpoch(MEMBER_ID, deviceId))
+                .build();
+    }
+
+    private static Message message(String body) {
+        return new DefaultMessage(TokenEpochStore.EPOCH_TOPIC.getTopic().getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,64 @@
+package com.a505.hobbyit.support;
+
+import io.lettuce.core.RedisURI;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+Redis 스크립트, 무효화 등을 실제 redis-server 로 확인하는 테스트용
+- REDIS_HOST, REDIS_PORT(기본 localhost:6379)의 REDIS_TEST_DATABASE(기본 15) 번 DB 를 쓰고, 연결할 수 없으면 테스트를 건너뛴다.
+- 테스트마다 그 DB 를 비우므로 운영 DB 번호를 지정하지 않는다.
+ */
+public final class LocalRedis {
+
+    private static final String HOST = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+    private static final int PORT = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+    private static final int DATABASE = Integer.parseInt(System.getenv().getOrDefault("REDIS_TEST_DATABASE", "15"));
+
+    private LocalRedis() {
+    }
+
+    public static LettuceConnectionFactory connectionFactory() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(HOST, PORT);
+        configuration.setDatabase(DATABASE);
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushDb();
+        } catch (RuntimeException e) {
+            connectionFactory.destroy();
+            assumeTrue(false, "redis-server unavailable at " + HOST + ":" + PORT + ": " + e.getMessage());
+        }
+        return connectionFactory;
+    }
+
+    public static StringRedisTemplate template(LettuceConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    public static RedisURI uri() {
+        return RedisURI.builder().withHost(HOST).withPort(PORT).withDatabase(DATABASE).build();
+    }
+
+    // pub/sub, 무효화처럼 비동기로 반영되는 결과를 기다린다.
+    public static void await(BooleanSupplier condition, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("condition not met within " + timeout);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+}